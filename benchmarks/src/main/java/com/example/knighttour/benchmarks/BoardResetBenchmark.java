@@ -0,0 +1,63 @@
+package com.example.knighttour.benchmarks;
+
+import com.example.knighttour.model.ChessBoard;
+import com.example.knighttour.model.KnightTour;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resetting the board and the tour between runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardResetBenchmark {
+
+    @Param({"8", "14", "100"})
+    private int boardSize;
+
+    private ChessBoard board;
+    private KnightTour knightTour;
+
+    @Setup
+    public void setUp() {
+        board = new ChessBoard(boardSize);
+        knightTour = new KnightTour(boardSize);
+    }
+
+    /**
+     * One call to {@link ChessBoard#reset()}.
+     *
+     * @return The board, so the reset is not eliminated
+     */
+    @Benchmark
+    public ChessBoard boardReset() {
+        board.reset();
+        return board;
+    }
+
+    /**
+     * One call to {@link KnightTour#reset()}, which also clears the move history.
+     *
+     * @return The tour, so the reset is not eliminated
+     */
+    @Benchmark
+    public KnightTour tourReset() {
+        knightTour.reset();
+        return knightTour;
+    }
+}
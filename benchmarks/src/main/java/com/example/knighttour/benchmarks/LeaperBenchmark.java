@@ -0,0 +1,56 @@
+package com.example.knighttour.benchmarks;
+
+import com.example.knighttour.model.BitboardTour;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.MoveSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warnsdorff tours of different leapers on the bitboard engine, from the corner of a
+ * square board. Every piece runs on the same neighbour-table code path as the knight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaperBenchmark {
+
+    @Param({"32", "64"})
+    private int boardSize;
+
+    @Param({"knight", "zebra", "giraffe", "knight+camel"})
+    private String piece;
+
+    private BitboardTour bitboardTour;
+
+    @Setup
+    public void setUp() {
+        bitboardTour = new BitboardTour(BoardGraph.of(boardSize, boardSize, MoveSet.parse(piece)));
+    }
+
+    /**
+     * Warnsdorff from the top-left corner until the piece is stuck or the board is covered.
+     *
+     * @return The number of squares visited
+     */
+    @Benchmark
+    public int tour() {
+        bitboardTour.setInitialPosition(0, 0);
+        bitboardTour.solve();
+        return bitboardTour.getMoveCount();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.knighttour.benchmarks;
+
+import com.example.knighttour.model.KnightTour;
+import com.example.knighttour.view.BoardView;
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the board view: a full repaint with a complete tour drawn on it, and
+ * playing a whole tour move by move with incremental updates. Large boards are shown
+ * fitted to the view, so their repaint only draws the path and no move numbers.
+ * The canvases are never attached to a scene, so nothing is shown on screen; the JavaFX
+ * toolkit still has to be started, which needs a display (use Xvfb on headless machines).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    @Param({"8", "14", "100"})
+    private int boardSize;
+
+    private KnightTour knightTour;
+    private BoardView boardView;
+
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // toolkit already running in this JVM
+        }
+
+        knightTour = new KnightTour(boardSize);
+        while (knightTour.makeNextMove()) {
+            // play the whole tour so every square and arrow is drawn
+        }
+        boardView = new BoardView(knightTour);
+    }
+
+    /**
+     * One call to {@link BoardView#drawBoard()}. The full-canvas clears of every layer also
+     * discard the canvases' buffered drawing commands.
+     *
+     * @return The view, so the repaint is not eliminated
+     */
+    @Benchmark
+    public BoardView drawBoard() {
+        boardView.drawBoard();
+        return boardView;
+    }
+
+    /**
+     * Plays a whole tour from the start, refreshing the view after every move as the UI does.
+     *
+     * @return The view, so the updates are not eliminated
+     */
+    @Benchmark
+    public BoardView playTour() {
+        knightTour.reset();
+        boardView.refresh();
+        while (knightTour.makeNextMove()) {
+            boardView.refresh();
+        }
+        return boardView;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.knighttour.benchmarks;
+
+import com.example.knighttour.model.BitboardTour;
+import com.example.knighttour.model.KnightTour;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single Warnsdorff step, which includes the degree evaluation of every candidate.
+ * When a tour ends the knight is put back on its start square inside the measured
+ * method, so the reset cost is amortised over the N * N steps of a tour.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepBenchmark {
+
+    @Param({"8", "14", "64"})
+    private int boardSize;
+
+    private KnightTour knightTour;
+    private BitboardTour bitboardTour;
+
+    @Setup
+    public void setUp() {
+        knightTour = new KnightTour(boardSize);
+        bitboardTour = new BitboardTour(boardSize);
+    }
+
+    /**
+     * One call to {@link KnightTour#makeNextMove()}.
+     *
+     * @return Whether a move was made
+     */
+    @Benchmark
+    public boolean knightTourStep() {
+        if (knightTour.makeNextMove()) {
+            return true;
+        }
+        knightTour.reset();
+        return false;
+    }
+
+    /**
+     * One call to {@link BitboardTour#makeNextMove()}.
+     *
+     * @return Whether a move was made
+     */
+    @Benchmark
+    public boolean bitboardTourStep() {
+        if (bitboardTour.makeNextMove()) {
+            return true;
+        }
+        bitboardTour.start(0);
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.knighttour.benchmarks;
+
+import com.example.knighttour.model.BacktrackingSolver;
+import com.example.knighttour.model.BitboardTour;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.KnightTour;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full tours for several board sizes and start squares, on each solver engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TourBenchmark {
+
+    @Param({"8", "14", "32", "64"})
+    private int boardSize;
+
+    @Param({"corner", "centre"})
+    private String start;
+
+    private int startX;
+    private int startY;
+    private BoardGraph graph;
+    private KnightTour knightTour;
+    private BitboardTour bitboardTour;
+    private BacktrackingSolver backtrackingSolver;
+
+    @Setup
+    public void setUp() {
+        startX = start.equals("corner") ? 0 : boardSize / 2;
+        startY = startX;
+        graph = BoardGraph.forSize(boardSize);
+        knightTour = new KnightTour(boardSize);
+        bitboardTour = new BitboardTour(graph);
+        backtrackingSolver = new BacktrackingSolver();
+    }
+
+    /**
+     * Warnsdorff on the original {@link KnightTour} model.
+     *
+     * @return The number of squares visited
+     */
+    @Benchmark
+    public int knightTour() {
+        knightTour.setInitialPosition(startX, startY);
+        while (knightTour.makeNextMove()) {
+            // keep moving
+        }
+        return knightTour.getMoveCount();
+    }
+
+    /**
+     * Warnsdorff on the bitboard engine.
+     *
+     * @return The number of squares visited
+     */
+    @Benchmark
+    public int bitboardTour() {
+        bitboardTour.setInitialPosition(startX, startY);
+        bitboardTour.solve();
+        return bitboardTour.getMoveCount();
+    }
+
+    /**
+     * Closed tour search with tie-breaking and backtracking.
+     *
+     * @return The search result
+     */
+    @Benchmark
+    public TourResult closedTour() {
+        return backtrackingSolver.solve(graph, graph.squareOf(startX, startY), TourMode.CLOSED);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.knighttour.batch;
+
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.SolverTotals;
+
+/**
+ * Per-start results of solving every starting square of one board.
+ * Results are stored in primitive arrays indexed by the packed start square
+ * ({@code y * width + x}); blocked squares are not solved and keep empty entries.
+ * The solver metrics of all starts are summed in {@link #getTotals()}.
+ */
+public class BatchReport {
+    private final BoardGraph graph;
+    private final boolean[] success;
+    private final int[] tourLengths;
+    private final long[] nodes;
+    private final long[] elapsedNanos;
+    private final SolverTotals totals = new SolverTotals();
+    private long totalNanos;
+
+    /**
+     * Creates an empty report for the given board.
+     *
+     * @param graph The knight graph of the board
+     */
+    public BatchReport(BoardGraph graph) {
+        this.graph = graph;
+        this.success = new boolean[graph.getSquareCount()];
+        this.tourLengths = new int[graph.getSquareCount()];
+        this.nodes = new long[graph.getSquareCount()];
+        this.elapsedNanos = new long[graph.getSquareCount()];
+    }
+
+    /**
+     * Records the result of one start square.
+     *
+     * @param start      The packed start square
+     * @param complete   Whether a tour of the requested kind was found
+     * @param tourLength The number of squares visited, including the start
+     * @param nodeCount  The number of search nodes expanded
+     * @param nanos      The wall time spent on this start in nanoseconds
+     */
+    void record(int start, boolean complete, int tourLength, long nodeCount, long nanos) {
+        success[start] = complete;
+        tourLengths[start] = tourLength;
+        nodes[start] = nodeCount;
+        elapsedNanos[start] = nanos;
+    }
+
+    /**
+     * Sets the wall time of the whole batch.
+     *
+     * @param totalNanos The wall time in nanoseconds
+     */
+    void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Checks whether a tour of the requested kind was found from a start square.
+     *
+     * @param start The packed start square
+     * @return true if the tour is complete
+     */
+    public boolean isSuccess(int start) {
+        return success[start];
+    }
+
+    /**
+     * Gets the length of the tour from a start square.
+     *
+     * @param start The packed start square
+     * @return The number of squares visited, including the start
+     */
+    public int getTourLength(int start) {
+        return tourLengths[start];
+    }
+
+    /**
+     * Gets the number of search nodes expanded for a start square.
+     *
+     * @param start The packed start square
+     * @return The node count
+     */
+    public long getNodes(int start) {
+        return nodes[start];
+    }
+
+    /**
+     * Gets the wall time spent on a start square.
+     *
+     * @param start The packed start square
+     * @return The elapsed time in nanoseconds
+     */
+    public long getElapsedNanos(int start) {
+        return elapsedNanos[start];
+    }
+
+    /**
+     * Counts the start squares that produced a complete tour.
+     *
+     * @return The number of successful starts
+     */
+    public int getSuccessCount() {
+        int count = 0;
+        for (int start = 0; start < tourLengths.length; start++) {
+            if (isSuccess(start)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the knight graph of the board.
+     *
+     * @return The knight graph
+     */
+    public BoardGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Gets the number of start squares in this report, which excludes blocked squares.
+     *
+     * @return The number of start squares
+     */
+    public int getStartCount() {
+        return graph.getOpenSquareCount();
+    }
+
+    /**
+     * Gets the wall time of the whole batch.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the solver metrics summed over every start square.
+     *
+     * @return The totals, updated while the batch runs
+     */
+    public SolverTotals getTotals() {
+        return totals;
+    }
+}
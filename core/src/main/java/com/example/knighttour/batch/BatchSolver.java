@@ -0,0 +1,124 @@
+package com.example.knighttour.batch;
+
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+import com.example.knighttour.model.TourSolver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Solves the Knight's Tour from every starting square of a board in parallel.
+ * Start squares are split across a fork-join pool; each leaf task creates one
+ * solver and reuses it for all of its starts.
+ */
+public class BatchSolver {
+    // Number of start squares below which a task is solved directly
+    private static final int SPLIT_THRESHOLD = 8;
+
+    private final ForkJoinPool pool;
+    private final Supplier<TourSolver> solverFactory;
+    private final TourMode mode;
+
+    /**
+     * Creates a batch solver that uses every available core.
+     *
+     * @param solverFactory Creates one solver per leaf task
+     * @param mode          Whether open or closed tours are required
+     */
+    public BatchSolver(Supplier<TourSolver> solverFactory, TourMode mode) {
+        this(solverFactory, mode, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a batch solver with the given parallelism.
+     *
+     * @param solverFactory Creates one solver per leaf task
+     * @param mode          Whether open or closed tours are required
+     * @param parallelism   The number of worker threads
+     */
+    public BatchSolver(Supplier<TourSolver> solverFactory, TourMode mode, int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.solverFactory = solverFactory;
+        this.mode = mode;
+    }
+
+    /**
+     * Solves the tour from every start square of a board.
+     *
+     * @param boardSize The size of the chess board
+     * @return The per-start results
+     */
+    public BatchReport solveAllStarts(int boardSize) {
+        return solveAllStarts(BoardGraph.forSize(boardSize), result -> {
+        });
+    }
+
+    /**
+     * Solves the tour from every open start square of a board and passes each result on.
+     * The listener is called from the worker threads and must be thread-safe.
+     *
+     * @param graph    The knight graph of the board, which may be rectangular or have blocked squares
+     * @param listener Receives the result of every start square
+     * @return The per-start results
+     */
+    public BatchReport solveAllStarts(BoardGraph graph, Consumer<TourResult> listener) {
+        BatchReport report = new BatchReport(graph);
+
+        long startTime = System.nanoTime();
+        pool.invoke(new SolveTask(graph, report, listener, 0, graph.getSquareCount()));
+        report.setTotalNanos(System.nanoTime() - startTime);
+        return report;
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Fork-join task that solves a contiguous range of start squares.
+     */
+    private class SolveTask extends RecursiveAction {
+        private final BoardGraph graph;
+        private final BatchReport report;
+        private final Consumer<TourResult> listener;
+        private final int from;
+        private final int to;
+
+        SolveTask(BoardGraph graph, BatchReport report, Consumer<TourResult> listener, int from, int to) {
+            this.graph = graph;
+            this.report = report;
+            this.listener = listener;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                TourSolver solver = solverFactory.get();
+                for (int start = from; start < to; start++) {
+                    if (graph.isBlocked(start)) {
+                        continue;
+                    }
+                    TourResult result = solver.solve(graph, start, mode);
+                    report.record(start, result.isComplete(), result.getLength(),
+                            result.getNodes(), result.getElapsedNanos());
+                    report.getTotals().add(result);
+                    listener.accept(result);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SolveTask(graph, report, listener, from, middle),
+                    new SolveTask(graph, report, listener, middle, to));
+        }
+    }
+}
@@ -0,0 +1,574 @@
+package com.example.knighttour.batch;
+
+import com.example.knighttour.model.BacktrackingSolver;
+import com.example.knighttour.model.BitBoard;
+import com.example.knighttour.model.BlockTourBuilder;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.CachingSolver;
+import com.example.knighttour.model.HamiltonianSolver;
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.MoveSet;
+import com.example.knighttour.model.RacingSolver;
+import com.example.knighttour.model.SolverTotals;
+import com.example.knighttour.model.TourCache;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+import com.example.knighttour.model.TourSolver;
+import com.example.knighttour.model.TourValidation;
+import com.example.knighttour.model.TourValidator;
+import com.example.knighttour.model.WarnsdorffSolver;
+import com.example.knighttour.store.TourStoreWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Headless entry point that solves the Knight's Tour from every start square
+ * for one or more board sizes, without starting the JavaFX UI.
+ * <p>
+ * Usage: {@code BatchSolverApp <N | FROM-TO | WxH> [--closed] [--backtrack] [--race=K] [--budget=NODES]
+ * [--exact] [--portfolio=K] [--time-limit=MS] [--end=X:Y] [--threads=K] [--quiet] [--stats] [--startup]
+ * [--verify] [--cache] [--blocks] [--save=FILE] [--blocked=X:Y,...] [--piece=P]}
+ * <p>
+ * Open tours use plain Warnsdorff unless {@code --backtrack} is given; closed tours
+ * use the {@link BacktrackingSolver}. With {@code --race=K}, both use the {@link RacingSolver}
+ * instead, which races K randomised Warnsdorff attempts on the worker threads; the
+ * summary then also counts the attempts that finished. With {@code --exact}, both use the
+ * {@link HamiltonianSolver}, which finds a tour or proves that there is none within
+ * {@code --time-limit} milliseconds per start, running {@code --portfolio} strategies at once
+ * on the worker threads; {@code --end} fixes the last square of every tour, and the summary
+ * counts the starts proven to have no tour. For every start square a CSV line
+ * {@code n,x,y,success,length,nodes,micros} is printed, followed by a summary line
+ * per board size. With {@code --stats}, a second summary line adds the solver metrics
+ * summed over all starts: candidate evaluations, ties, backtracks, the deepest dead end
+ * and the CPU time.
+ * <p>
+ * With {@code --startup}, the time from the start of the JVM to the first finished tour is
+ * printed at the end, which shows the class loading and warm-up cost of short runs
+ * (see the {@code cds} build profile).
+ * <p>
+ * With {@code --verify}, every complete tour is checked by a {@link TourValidator} as it is found,
+ * and each board's summary is followed by the number of tours that failed the check.
+ * <p>
+ * A board given as {@code WxH} is a rectangle of W columns and H rows, and
+ * {@code --blocked} lists squares the knight may not visit. Starts on boards that
+ * provably have no tour (see {@link com.example.knighttour.model.Feasibility}) fail
+ * without being searched.
+ * <p>
+ * {@code --piece} tours another leaper instead of the knight, given as in
+ * {@link MoveSet#parse(String)}, for example {@code zebra}, {@code 1,4} or {@code knight+camel}.
+ * <p>
+ * With {@code --cache}, tours are shared between start squares that are symmetric images
+ * of each other, so only about one start in eight is actually searched.
+ * <p>
+ * With {@code --blocks}, a single tour from the top-left corner is built per board size
+ * with the {@link BlockTourBuilder}, which scales to boards with thousands of squares per side.
+ * <p>
+ * With {@code --save=FILE}, every complete tour is written to a binary tour store that
+ * can later be opened with {@link com.example.knighttour.store.TourStore}.
+ */
+public class BatchSolverApp {
+    // Upper bound on the squares held by the --cache tour cache
+    private static final long CACHE_SQUARES = 64L * 1024 * 1024;
+
+    /**
+     * Main entry point for the batch solver.
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            printUsage();
+            System.exit(2);
+        }
+
+        int fromSize;
+        int toSize;
+        int height = 0;
+        String blockedList = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean quiet = false;
+        boolean stats = false;
+        boolean startup = false;
+        boolean verify = false;
+        TourMode mode = TourMode.OPEN;
+        boolean backtrack = false;
+        int race = 0;
+        boolean exact = false;
+        int portfolio = 1;
+        long timeLimit = HamiltonianSolver.DEFAULT_TIME_LIMIT_MILLIS;
+        String endSquare = null;
+        boolean blocks = false;
+        boolean cached = false;
+        long budget = BacktrackingSolver.DEFAULT_NODE_BUDGET;
+        Path savePath = null;
+        MoveSet moveSet = MoveSet.KNIGHT;
+        try {
+            String range = args[0];
+            int dash = range.indexOf('-');
+            int times = range.indexOf('x');
+            if (times >= 0) {
+                fromSize = Integer.parseInt(range.substring(0, times));
+                toSize = fromSize;
+                height = Integer.parseInt(range.substring(times + 1));
+            } else {
+                fromSize = Integer.parseInt(dash < 0 ? range : range.substring(0, dash));
+                toSize = dash < 0 ? fromSize : Integer.parseInt(range.substring(dash + 1));
+            }
+
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].startsWith("--threads=")) {
+                    threads = Integer.parseInt(args[i].substring("--threads=".length()));
+                    if (threads <= 0) {
+                        throw new IllegalArgumentException("--threads needs a positive number of threads");
+                    }
+                } else if (args[i].equals("--quiet")) {
+                    quiet = true;
+                } else if (args[i].equals("--stats")) {
+                    stats = true;
+                } else if (args[i].equals("--startup")) {
+                    startup = true;
+                } else if (args[i].equals("--verify")) {
+                    verify = true;
+                } else if (args[i].equals("--closed")) {
+                    mode = TourMode.CLOSED;
+                } else if (args[i].equals("--backtrack")) {
+                    backtrack = true;
+                } else if (args[i].startsWith("--race=")) {
+                    race = Integer.parseInt(args[i].substring("--race=".length()));
+                    if (race <= 0) {
+                        throw new IllegalArgumentException("--race needs a positive number of attempts");
+                    }
+                } else if (args[i].equals("--exact")) {
+                    exact = true;
+                } else if (args[i].startsWith("--portfolio=")) {
+                    portfolio = Integer.parseInt(args[i].substring("--portfolio=".length()));
+                    if (portfolio <= 0) {
+                        throw new IllegalArgumentException("--portfolio needs a positive number of strategies");
+                    }
+                } else if (args[i].startsWith("--time-limit=")) {
+                    timeLimit = Long.parseLong(args[i].substring("--time-limit=".length()));
+                    if (timeLimit < 0) {
+                        throw new IllegalArgumentException("--time-limit must not be negative");
+                    }
+                } else if (args[i].startsWith("--end=")) {
+                    endSquare = args[i].substring("--end=".length());
+                } else if (args[i].equals("--cache")) {
+                    cached = true;
+                } else if (args[i].equals("--blocks")) {
+                    blocks = true;
+                } else if (args[i].startsWith("--budget=")) {
+                    budget = Long.parseLong(args[i].substring("--budget=".length()));
+                    if (budget <= 0) {
+                        throw new IllegalArgumentException("--budget needs a positive number of nodes");
+                    }
+                } else if (args[i].startsWith("--save=")) {
+                    savePath = Path.of(args[i].substring("--save=".length()));
+                } else if (args[i].startsWith("--piece=")) {
+                    moveSet = MoveSet.parse(args[i].substring("--piece=".length()));
+                } else if (args[i].startsWith("--blocked=")) {
+                    blockedList = args[i].substring("--blocked=".length());
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (fromSize <= 0 || height < 0 || (times >= 0 && height == 0)) {
+                throw new IllegalArgumentException("Board dimensions must be positive");
+            }
+            if (toSize < fromSize) {
+                throw new IllegalArgumentException("Board range must not be reversed: " + range);
+            }
+            if (!blocks && (long) toSize * (height == 0 ? toSize : height) * moveSet.size() > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Board is too large for the piece: " + range);
+            }
+            if (race > 0 && (backtrack || blocks)) {
+                throw new IllegalArgumentException("--race cannot be combined with --backtrack or --blocks");
+            }
+            if (exact && (race > 0 || backtrack || blocks)) {
+                throw new IllegalArgumentException("--exact cannot be combined with --race, --backtrack or --blocks");
+            }
+            if (endSquare != null && !exact) {
+                throw new IllegalArgumentException("--end needs --exact");
+            }
+            if (endSquare != null && fromSize != toSize) {
+                throw new IllegalArgumentException("--end needs a single board");
+            }
+            if (endSquare != null) {
+                // Parse now so that a bad square is reported as an invalid argument
+                parseSquare(endSquare, fromSize, height == 0 ? fromSize : height);
+            }
+            if (blocks && (height != 0 || blockedList != null || !moveSet.equals(MoveSet.KNIGHT))) {
+                throw new IllegalArgumentException(
+                        "--blocks only builds knight tours of square boards without blocked squares");
+            }
+            if (savePath != null && !moveSet.equals(MoveSet.KNIGHT)) {
+                throw new IllegalArgumentException("--save only stores knight tours");
+            }
+            if (savePath != null && blockedList != null) {
+                throw new IllegalArgumentException("--save only stores tours of boards without blocked squares");
+            }
+            if (blockedList != null && fromSize != toSize) {
+                throw new IllegalArgumentException("--blocked needs a single board");
+            }
+            if (blockedList != null) {
+                // Parse now so that bad squares are reported as invalid arguments
+                parseBlocked(blockedList, fromSize, height == 0 ? fromSize : height);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        TourStoreWriter store = null;
+        if (savePath != null) {
+            try {
+                store = new TourStoreWriter(savePath);
+            } catch (IOException e) {
+                System.err.println("Cannot create tour store: " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        }
+        // Wall-clock time of the first finished tour, compared with the JVM start time at the end
+        AtomicLong firstTourMillis = new AtomicLong();
+        try {
+            if (blocks) {
+                buildBlockTours(fromSize, toSize, mode, store, firstTourMillis);
+            } else {
+                int rows = height;
+                String blockedSquares = blockedList;
+                MoveSet piece = moveSet;
+                IntFunction<BoardGraph> boards = width -> {
+                    int boardHeight = rows == 0 ? width : rows;
+                    BitBoard blocked = blockedSquares == null ? null : parseBlocked(blockedSquares, width, boardHeight);
+                    return BoardGraph.of(width, boardHeight, piece, blocked);
+                };
+                ExactOptions exactOptions = exact ? new ExactOptions(portfolio, timeLimit, endSquare) : null;
+                solveAll(fromSize, toSize, boards, mode, backtrack, race, exactOptions, cached, budget, threads, quiet,
+                        stats, verify, store, firstTourMillis);
+            }
+            if (startup && firstTourMillis.get() != 0) {
+                System.out.printf("# startup-to-first-tour=%d ms%n",
+                        firstTourMillis.get() - ManagementFactory.getRuntimeMXBean().getStartTime());
+            }
+        } catch (UncheckedIOException e) {
+            System.err.println("Cannot write tour store: " + e.getCause().getMessage());
+            System.exit(1);
+        } finally {
+            if (store != null) {
+                try {
+                    store.close();
+                } catch (IOException e) {
+                    System.err.println("Cannot write tour store: " + e.getMessage());
+                    System.exit(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Prints the command line syntax to standard error.
+     */
+    private static void printUsage() {
+        System.err.println("Usage: BatchSolverApp <N | FROM-TO | WxH> [--closed] [--backtrack] [--race=K]"
+                + " [--budget=NODES] [--exact] [--portfolio=K] [--time-limit=MS] [--end=X:Y]"
+                + " [--threads=K] [--quiet] [--stats] [--startup] [--verify] [--cache] [--blocks] [--save=FILE]"
+                + " [--blocked=X:Y,...] [--piece=P]");
+    }
+
+    /**
+     * Parses a list of blocked squares of the form {@code X:Y,X:Y,...}.
+     *
+     * @param list   The list to parse
+     * @param width  The board width
+     * @param height The board height
+     * @return The blocked squares
+     * @throws IllegalArgumentException if a square is malformed or outside the board
+     */
+    private static BitBoard parseBlocked(String list, int width, int height) {
+        BitBoard blocked = new BitBoard(width * height);
+        for (String square : list.split(",")) {
+            blocked.set(parseSquare(square, width, height));
+        }
+        return blocked;
+    }
+
+    /**
+     * Parses a square of the form {@code X:Y}.
+     *
+     * @param square The square to parse
+     * @param width  The board width
+     * @param height The board height
+     * @return The packed square index
+     * @throws IllegalArgumentException if the square is malformed or outside the board
+     */
+    private static int parseSquare(String square, int width, int height) {
+        int colon = square.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Square must be X:Y: " + square);
+        }
+        int x = Integer.parseInt(square.substring(0, colon).trim());
+        int y = Integer.parseInt(square.substring(colon + 1).trim());
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IllegalArgumentException("Square is outside the board: " + square);
+        }
+        return y * width + x;
+    }
+
+    /**
+     * Solves every start square of each board size and prints the results.
+     *
+     * @param fromSize  The smallest board width
+     * @param toSize    The largest board width
+     * @param boards    Creates the board of a given width
+     * @param mode      Whether open or closed tours are required
+     * @param backtrack Whether open tours use the backtracking search
+     * @param race      The number of racing attempts per start, or 0 to search once
+     * @param exact     The settings of the exact search, or null to use the heuristic solvers
+     * @param cached    Whether symmetric starts share a tour cache
+     * @param budget    The node budget of the backtracking search
+     * @param threads   The number of worker threads
+     * @param quiet     Whether to print only the summaries
+     * @param stats     Whether to print the solver metrics of each board
+     * @param verify    Whether to check every complete tour
+     * @param store     Receives every complete tour, or null
+     * @param firstTour Set to the wall-clock time in milliseconds when the first tour is finished
+     */
+    private static void solveAll(int fromSize, int toSize, IntFunction<BoardGraph> boards, TourMode mode,
+                                 boolean backtrack, int race, ExactOptions exact, boolean cached, long budget,
+                                 int threads,
+                                 boolean quiet, boolean stats, boolean verify, TourStoreWriter store,
+                                 AtomicLong firstTour) {
+        long nodeBudget = budget;
+        ExecutorService searchPool = null;
+        LongAdder attemptsRun = new LongAdder();
+        LongAdder impossible = new LongAdder();
+        Supplier<TourSolver> searchFactory;
+        if (exact != null) {
+            ExecutorService pool = null;
+            if (exact.portfolio > 1) {
+                // The strategies of every start share one pool, like the racing attempts
+                AtomicInteger threadCount = new AtomicInteger();
+                pool = Executors.newFixedThreadPool(threads, task -> {
+                    Thread thread = new Thread(task, "portfolio-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                searchPool = pool;
+            }
+            ExecutorService portfolioPool = pool;
+            searchFactory = () -> {
+                HamiltonianSolver solver = new HamiltonianSolver(exact.portfolio, exact.timeLimitMillis, portfolioPool);
+                return (graph, start, tourMode) -> {
+                    int end = exact.end == null ? -1 : parseSquare(exact.end, graph.getWidth(), graph.getHeight());
+                    TourResult result = solver.solve(graph, start, end, tourMode);
+                    if (result.isImpossible()) {
+                        impossible.increment();
+                    }
+                    return result;
+                };
+            };
+        } else if (race > 0) {
+            // The attempts of every start share one pool, so the worker threads mostly wait on it
+            AtomicInteger threadCount = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "race-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            searchPool = pool;
+            searchFactory = () -> {
+                RacingSolver racer = new RacingSolver(race, 0, pool);
+                return (graph, start, tourMode) -> {
+                    TourResult result = racer.solve(graph, start, tourMode);
+                    attemptsRun.add(racer.getAttemptsRun());
+                    return result;
+                };
+            };
+        } else if (backtrack || mode == TourMode.CLOSED) {
+            searchFactory = () -> new BacktrackingSolver(BacktrackingSolver.TieBreak.CENTRE_DISTANCE, nodeBudget);
+        } else {
+            searchFactory = WarnsdorffSolver::new;
+        }
+        Supplier<TourSolver> search = searchFactory;
+        // Cached tours may end anywhere, so they cannot answer a search with a fixed end
+        TourCache cache = cached && (exact == null || exact.end == null) ? new TourCache(CACHE_SQUARES) : null;
+        Supplier<TourSolver> solverFactory = cache != null
+                ? () -> new CachingSolver(cache, search.get())
+                : search;
+
+        // Validator of the board being solved, replaced before each board
+        AtomicReference<TourValidator> validator = new AtomicReference<>();
+        LongAdder invalidTours = new LongAdder();
+        Consumer<TourResult> listener = result -> {
+            if (firstTour.get() == 0) {
+                firstTour.compareAndSet(0, System.currentTimeMillis());
+            }
+            if (verify && result.isComplete()) {
+                TourValidation validation = validator.get().validate(result.getPath(), result.getMode());
+                if (!validation.isValid()) {
+                    invalidTours.increment();
+                    System.err.printf("Invalid tour from %d,%d: %s%n", result.getStart() % result.getWidth(),
+                            result.getStart() / result.getWidth(), validation);
+                }
+            }
+            if (store != null) {
+                try {
+                    store.write(result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        PrintStream out = System.out;
+        BatchSolver solver = new BatchSolver(solverFactory, mode, threads);
+        try {
+            if (!quiet) {
+                out.println("n,x,y,success,length,nodes,micros");
+            }
+            for (int boardSize = fromSize; boardSize <= toSize; boardSize++) {
+                BoardGraph graph = boards.apply(boardSize);
+                if (verify) {
+                    validator.set(new TourValidator(graph));
+                }
+                BatchReport report = solver.solveAllStarts(graph, listener);
+                if (!quiet) {
+                    printStarts(out, report);
+                }
+                MoveSet piece = report.getGraph().getMoveSet();
+                out.printf("# n=%s %s%s solved %d/%d starts in %.3f ms%n",
+                        boardName(report.getGraph()), mode.name().toLowerCase(),
+                        piece.equals(MoveSet.KNIGHT) ? "" : " piece=" + piece,
+                        report.getSuccessCount(), report.getStartCount(),
+                        report.getTotalNanos() / 1e6);
+                if (verify) {
+                    out.printf("# verify invalid=%d of %d complete tours%n",
+                            invalidTours.sumThenReset(), report.getSuccessCount());
+                }
+                if (exact != null) {
+                    out.printf("# exact found=%d impossible=%d timed-out=%d%n", report.getSuccessCount(),
+                            impossible.sum(), report.getStartCount() - report.getSuccessCount() - impossible.sum());
+                    impossible.reset();
+                }
+                if (race > 0) {
+                    out.printf("# race attempts=%d of %d started%n",
+                            attemptsRun.sumThenReset(), (long) race * report.getStartCount());
+                }
+                if (stats) {
+                    SolverTotals totals = report.getTotals();
+                    out.printf("# nodes=%d evaluations=%d ties=%d backtracks=%d deepest-dead-end=%d cpu=%.3f ms%n",
+                            totals.getNodes(), totals.getDegreeEvaluations(), totals.getTies(),
+                            totals.getBacktracks(), totals.getDeadEndDepth(), totals.getCpuNanos() / 1e6);
+                }
+            }
+            if (cache != null) {
+                out.printf("# cache hits=%d misses=%d evictions=%d%n",
+                        cache.getHits(), cache.getMisses(), cache.getEvictions());
+            }
+        } finally {
+            solver.shutdown();
+            if (searchPool != null) {
+                searchPool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Builds one tour per board size with the divide-and-conquer builder.
+     *
+     * @param fromSize  The smallest board size
+     * @param toSize    The largest board size
+     * @param mode      Whether open or closed tours are required
+     * @param store     Receives every tour, or null
+     * @param firstTour Set to the wall-clock time in milliseconds when the first tour is built
+     */
+    private static void buildBlockTours(int fromSize, int toSize, TourMode mode, TourStoreWriter store,
+                                        AtomicLong firstTour) {
+        BlockTourBuilder builder = new BlockTourBuilder();
+        for (int boardSize = fromSize; boardSize <= toSize; boardSize++) {
+            long startTime = System.nanoTime();
+            try {
+                MoveSequence tour = builder.build(boardSize, 0, mode);
+                firstTour.compareAndSet(0, System.currentTimeMillis());
+                System.out.printf("# n=%d %s block tour of %d squares in %.3f ms%n",
+                        boardSize, mode.name().toLowerCase(), tour.size(), (System.nanoTime() - startTime) / 1e6);
+                if (store != null) {
+                    store.write(boardSize, boardSize, mode, tour);
+                }
+            } catch (IllegalArgumentException e) {
+                System.out.printf("# n=%d %s%n", boardSize, e.getMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Settings of the exact search.
+     */
+    private static final class ExactOptions {
+        private final int portfolio;
+        private final long timeLimitMillis;
+        // The last square as X:Y, or null for any
+        private final String end;
+
+        ExactOptions(int portfolio, long timeLimitMillis, String end) {
+            this.portfolio = portfolio;
+            this.timeLimitMillis = timeLimitMillis;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Names a board by its size: {@code N} for a square board, {@code WxH} otherwise.
+     *
+     * @param graph The knight graph of the board
+     * @return The name of the board
+     */
+    private static String boardName(BoardGraph graph) {
+        return graph.getWidth() == graph.getHeight()
+                ? Integer.toString(graph.getWidth())
+                : graph.getWidth() + "x" + graph.getHeight();
+    }
+
+    /**
+     * Prints one CSV line per start square.
+     *
+     * @param out    The stream to print to
+     * @param report The report to print
+     */
+    private static void printStarts(PrintStream out, BatchReport report) {
+        BoardGraph graph = report.getGraph();
+        String board = boardName(graph);
+        StringBuilder line = new StringBuilder();
+        for (int start = 0; start < graph.getSquareCount(); start++) {
+            if (graph.isBlocked(start)) {
+                continue;
+            }
+            line.setLength(0);
+            line.append(board).append(',')
+                    .append(graph.xOf(start)).append(',')
+                    .append(graph.yOf(start)).append(',')
+                    .append(report.isSuccess(start)).append(',')
+                    .append(report.getTourLength(start)).append(',')
+                    .append(report.getNodes(start)).append(',')
+                    .append(report.getElapsedNanos(start) / 1000);
+            out.println(line);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.knighttour.batch;
+
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.EnumerationResult;
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.MoveSet;
+import com.example.knighttour.model.TourEnumerator;
+import com.example.knighttour.model.TourMode;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Headless entry point that counts, and optionally prints, every distinct tour from
+ * one start square of a small board.
+ * <p>
+ * Usage: {@code EnumeratorApp <N> <X> <Y> [--closed] [--threads=K] [--split=DEPTH]
+ * [--max-tours=T] [--budget=NODES] [--print] [--piece=P]}
+ * <p>
+ * With {@code --print}, every tour is printed as one line of packed square indices.
+ * The summary reports the tour count, the search speed and the number of nodes each
+ * worker thread expanded. {@code --piece} counts the tours of another leaper, given as
+ * in {@link MoveSet#parse(String)}.
+ */
+public class EnumeratorApp {
+
+    /**
+     * Main entry point for the enumerator.
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            printUsage();
+            System.exit(2);
+        }
+
+        int boardSize;
+        int x;
+        int y;
+        TourMode mode = TourMode.OPEN;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int splitDepth = TourEnumerator.DEFAULT_SPLIT_DEPTH;
+        long maxTours = Long.MAX_VALUE;
+        long budget = Long.MAX_VALUE;
+        boolean print = false;
+        MoveSet moveSet = MoveSet.KNIGHT;
+        BoardGraph graph;
+        try {
+            boardSize = Integer.parseInt(args[0]);
+            x = Integer.parseInt(args[1]);
+            y = Integer.parseInt(args[2]);
+            for (int i = 3; i < args.length; i++) {
+                if (args[i].equals("--closed")) {
+                    mode = TourMode.CLOSED;
+                } else if (args[i].startsWith("--threads=")) {
+                    threads = Integer.parseInt(args[i].substring("--threads=".length()));
+                    if (threads <= 0) {
+                        throw new IllegalArgumentException("--threads needs a positive number of threads");
+                    }
+                } else if (args[i].startsWith("--split=")) {
+                    splitDepth = Integer.parseInt(args[i].substring("--split=".length()));
+                    if (splitDepth < 0) {
+                        throw new IllegalArgumentException("--split must not be negative");
+                    }
+                } else if (args[i].startsWith("--max-tours=")) {
+                    maxTours = Long.parseLong(args[i].substring("--max-tours=".length()));
+                    if (maxTours <= 0) {
+                        throw new IllegalArgumentException("--max-tours needs a positive number of tours");
+                    }
+                } else if (args[i].startsWith("--budget=")) {
+                    budget = Long.parseLong(args[i].substring("--budget=".length()));
+                    if (budget <= 0) {
+                        throw new IllegalArgumentException("--budget needs a positive number of nodes");
+                    }
+                } else if (args[i].equals("--print")) {
+                    print = true;
+                } else if (args[i].startsWith("--piece=")) {
+                    moveSet = MoveSet.parse(args[i].substring("--piece=".length()));
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            graph = BoardGraph.of(boardSize, boardSize, moveSet);
+            if (!graph.isWithinBounds(x, y)) {
+                throw new IllegalArgumentException("Position is outside board boundaries");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+        Consumer<MoveSequence> listener = null;
+        if (print) {
+            listener = tour -> {
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < tour.size(); i++) {
+                    line.append(i == 0 ? "" : " ").append(tour.get(i));
+                }
+                synchronized (out) {
+                    out.println(line);
+                }
+            };
+        }
+
+        TourEnumerator enumerator = new TourEnumerator(threads, splitDepth, maxTours, budget);
+        try {
+            EnumerationResult result = enumerator.enumerate(graph, graph.squareOf(x, y), mode, listener);
+            out.printf("# n=%d start=(%d,%d) %s%s tours=%d%s symmetries=%d%n",
+                    boardSize, x, y, mode.name().toLowerCase(),
+                    moveSet.equals(MoveSet.KNIGHT) ? "" : " piece=" + moveSet, result.getTourCount(),
+                    mode == TourMode.CLOSED ? " cycles=" + result.getCycleCount() : "",
+                    result.getSymmetryCount());
+            out.printf("# %s nodes=%d in %.3f s (%.1f M nodes/s)%n",
+                    result.isExhaustive() ? "exhaustive" : "stopped at limit",
+                    result.getNodes(), result.getElapsedNanos() / 1e9, result.getNodesPerSecond() / 1e6);
+            Map<String, Long> threadNodes = new TreeMap<>(result.getThreadNodes());
+            threadNodes.forEach((thread, nodes) -> out.printf("# %s nodes=%d%n", thread, nodes));
+            out.printf("# load imbalance (max/mean) %.2f%n", result.getLoadImbalance());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.exit(2);
+        } finally {
+            out.flush();
+            enumerator.shutdown();
+        }
+    }
+
+    /**
+     * Prints the command line syntax to standard error.
+     */
+    private static void printUsage() {
+        System.err.println("Usage: EnumeratorApp <N> <X> <Y> [--closed] [--threads=K] [--split=DEPTH]"
+                + " [--max-tours=T] [--budget=NODES] [--print] [--piece=P]");
+    }
+}
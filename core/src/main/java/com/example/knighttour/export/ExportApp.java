@@ -0,0 +1,177 @@
+package com.example.knighttour.export;
+
+import com.example.knighttour.batch.BatchReport;
+import com.example.knighttour.model.BacktrackingSolver;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.MoveSet;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourSolver;
+import com.example.knighttour.model.WarnsdorffSolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Headless entry point that solves every start square of one or more boards and writes
+ * each tour as a PNG or SVG file, without a window or JavaFX.
+ * <p>
+ * Usage: {@code ExportApp <N | FROM-TO | WxH> --out=DIR [--format=png|svg|both] [--square=PX]
+ * [--closed] [--backtrack] [--numbers] [--threads=K] [--piece=P]}
+ * <p>
+ * Open tours use plain Warnsdorff unless {@code --backtrack} is given; closed tours use the
+ * {@link BacktrackingSolver}. {@code --square} sets the size of a square in pixels (default 32),
+ * and {@code --numbers} numbers the moves in SVG files. A summary line is printed per board.
+ */
+public class ExportApp {
+    private static final int DEFAULT_SQUARE_SIZE = 32;
+
+    /**
+     * Main entry point for the exporter.
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            printUsage();
+            System.exit(2);
+        }
+
+        int fromSize;
+        int toSize;
+        int height = 0;
+        Path directory = null;
+        Set<TourExporter.Format> formats = EnumSet.of(TourExporter.Format.PNG);
+        int squareSize = DEFAULT_SQUARE_SIZE;
+        int threads = Runtime.getRuntime().availableProcessors();
+        TourMode mode = TourMode.OPEN;
+        boolean backtrack = false;
+        boolean numbers = false;
+        MoveSet moveSet = MoveSet.KNIGHT;
+        try {
+            String range = args[0];
+            int dash = range.indexOf('-');
+            int times = range.indexOf('x');
+            if (times >= 0) {
+                fromSize = Integer.parseInt(range.substring(0, times));
+                toSize = fromSize;
+                height = Integer.parseInt(range.substring(times + 1));
+            } else {
+                fromSize = Integer.parseInt(dash < 0 ? range : range.substring(0, dash));
+                toSize = dash < 0 ? fromSize : Integer.parseInt(range.substring(dash + 1));
+            }
+
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].startsWith("--out=")) {
+                    directory = Path.of(args[i].substring("--out=".length()));
+                } else if (args[i].startsWith("--format=")) {
+                    formats = parseFormats(args[i].substring("--format=".length()));
+                } else if (args[i].startsWith("--square=")) {
+                    squareSize = Integer.parseInt(args[i].substring("--square=".length()));
+                    if (squareSize <= 0) {
+                        throw new IllegalArgumentException("--square needs a positive number of pixels");
+                    }
+                } else if (args[i].startsWith("--threads=")) {
+                    threads = Integer.parseInt(args[i].substring("--threads=".length()));
+                    if (threads <= 0) {
+                        throw new IllegalArgumentException("--threads needs a positive number of threads");
+                    }
+                } else if (args[i].equals("--closed")) {
+                    mode = TourMode.CLOSED;
+                } else if (args[i].equals("--backtrack")) {
+                    backtrack = true;
+                } else if (args[i].equals("--numbers")) {
+                    numbers = true;
+                } else if (args[i].startsWith("--piece=")) {
+                    moveSet = MoveSet.parse(args[i].substring("--piece=".length()));
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (fromSize <= 0 || height < 0 || (times >= 0 && height == 0)) {
+                throw new IllegalArgumentException("Board dimensions must be positive");
+            }
+            if (toSize < fromSize) {
+                throw new IllegalArgumentException("Board range must not be reversed: " + range);
+            }
+            if (directory == null) {
+                throw new IllegalArgumentException("--out is required");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            System.err.println("Cannot create output directory: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        Supplier<TourSolver> solverFactory = backtrack || mode == TourMode.CLOSED
+                ? () -> new BacktrackingSolver(BacktrackingSolver.TieBreak.CENTRE_DISTANCE,
+                        BacktrackingSolver.DEFAULT_NODE_BUDGET)
+                : WarnsdorffSolver::new;
+        TourExporter exporter = new TourExporter(solverFactory, mode, threads, directory, formats, squareSize,
+                numbers);
+        try {
+            for (int boardSize = fromSize; boardSize <= toSize; boardSize++) {
+                BoardGraph graph = BoardGraph.of(boardSize, height == 0 ? boardSize : height, moveSet);
+                long files = exporter.getFilesWritten();
+                long bytes = exporter.getBytesWritten();
+                BatchReport report = exporter.exportAllStarts(graph);
+                System.out.printf("# n=%s %s exported %d files (%d/%d complete) in %.3f ms, %.1f MB%n",
+                        graph.getWidth() == graph.getHeight()
+                                ? Integer.toString(graph.getWidth())
+                                : graph.getWidth() + "x" + graph.getHeight(),
+                        mode.name().toLowerCase(), exporter.getFilesWritten() - files,
+                        report.getSuccessCount(), report.getStartCount(), report.getTotalNanos() / 1e6,
+                        (exporter.getBytesWritten() - bytes) / 1e6);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Cannot export: " + e.getMessage());
+            System.exit(2);
+        } catch (UncheckedIOException e) {
+            System.err.println("Cannot write tour: " + e.getCause().getMessage());
+            System.exit(1);
+        } finally {
+            exporter.shutdown();
+        }
+    }
+
+    /**
+     * Prints the command line syntax to standard error.
+     */
+    private static void printUsage() {
+        System.err.println("Usage: ExportApp <N | FROM-TO | WxH> --out=DIR [--format=png|svg|both]"
+                + " [--square=PX] [--closed] [--backtrack] [--numbers] [--threads=K] [--piece=P]");
+    }
+
+    /**
+     * Parses the {@code --format} option.
+     *
+     * @param value {@code png}, {@code svg} or {@code both}
+     * @return The formats to write
+     * @throws IllegalArgumentException if the value is none of these
+     */
+    private static Set<TourExporter.Format> parseFormats(String value) {
+        switch (value) {
+            case "png":
+                return EnumSet.of(TourExporter.Format.PNG);
+            case "svg":
+                return EnumSet.of(TourExporter.Format.SVG);
+            case "both":
+                return EnumSet.allOf(TourExporter.Format.class);
+            default:
+                throw new IllegalArgumentException("Unknown format: " + value);
+        }
+    }
+}
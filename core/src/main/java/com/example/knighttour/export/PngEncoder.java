@@ -0,0 +1,172 @@
+package com.example.knighttour.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Minimal PNG encoder for 8-bit RGB images, without AWT or JavaFX.
+ * <p>
+ * Pixels are read from an {@code int[]} in ARGB order, one row at a time, and deflated
+ * straight into IDAT chunks of at most {@value #CHUNK_SIZE} bytes, so an image is never
+ * held in memory twice. Alpha is dropped. Rows are not filtered: the flat squares of a
+ * board compress well without it, and it keeps encoding fast.
+ */
+public final class PngEncoder {
+    private static final byte[] SIGNATURE = {(byte) 137, 'P', 'N', 'G', '\r', '\n', 26, '\n'};
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int COLOR_TYPE_RGB = 2;
+    private static final int FILTER_NONE = 0;
+
+    private PngEncoder() {
+    }
+
+    /**
+     * Writes an image as PNG with the fastest compression.
+     *
+     * @param argb   The pixels, row by row, in ARGB order
+     * @param width  The image width in pixels
+     * @param height The image height in pixels
+     * @param out    The stream to write to; it is not closed
+     * @throws IOException if the stream cannot be written
+     * @throws IllegalArgumentException if the size is not positive or the array is too short
+     */
+    public static void write(int[] argb, int width, int height, OutputStream out) throws IOException {
+        write(argb, width, height, Deflater.BEST_SPEED, out);
+    }
+
+    /**
+     * Writes an image as PNG.
+     *
+     * @param argb   The pixels, row by row, in ARGB order
+     * @param width  The image width in pixels
+     * @param height The image height in pixels
+     * @param level  The deflate level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     * @param out    The stream to write to; it is not closed
+     * @throws IOException if the stream cannot be written
+     * @throws IllegalArgumentException if the size is not positive or the array is too short
+     */
+    public static void write(int[] argb, int width, int height, int level, OutputStream out) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Image dimensions must be positive");
+        }
+        if (argb.length < (long) width * height) {
+            throw new IllegalArgumentException("Pixel array is smaller than the image");
+        }
+
+        out.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;
+        header[9] = COLOR_TYPE_RGB;
+        // Compression, filter method and interlace stay 0
+        writeChunk(out, "IHDR", header, header.length);
+
+        Deflater deflater = new Deflater(level);
+        try (DeflaterOutputStream data = new DeflaterOutputStream(new ChunkStream(out), deflater, CHUNK_SIZE)) {
+            byte[] row = new byte[1 + 3 * width];
+            row[0] = FILTER_NONE;
+            for (int y = 0; y < height; y++) {
+                int offset = y * width;
+                for (int x = 0, i = 1; x < width; x++) {
+                    int pixel = argb[offset + x];
+                    row[i++] = (byte) (pixel >>> 16);
+                    row[i++] = (byte) (pixel >>> 8);
+                    row[i++] = (byte) pixel;
+                }
+                data.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        writeChunk(out, "IEND", new byte[0], 0);
+    }
+
+    /**
+     * Writes one chunk: length, type, data and the CRC of type and data.
+     *
+     * @param out    The stream to write to
+     * @param type   The four-letter chunk type
+     * @param data   The chunk data
+     * @param length The number of data bytes
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeChunk(OutputStream out, String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] number = new byte[4];
+        putInt(number, 0, length);
+        out.write(number);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        putInt(number, 0, (int) crc.getValue());
+        out.write(number);
+    }
+
+    /**
+     * Stores an int in big-endian order.
+     */
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Collects compressed data and writes it out as IDAT chunks. Closing the stream
+     * writes the last chunk but leaves the underlying stream open.
+     */
+    private static final class ChunkStream extends OutputStream {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+
+        ChunkStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flushChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (count == buffer.length) {
+                    flushChunk();
+                }
+                int n = Math.min(length, buffer.length - count);
+                System.arraycopy(bytes, offset, buffer, count, n);
+                count += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (count > 0) {
+                flushChunk();
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            writeChunk(out, "IDAT", buffer, count);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.knighttour.export;
+
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.MoveSequence;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes a tour as an SVG document, streamed in small pieces so that tours of large
+ * boards never exist as one string.
+ * <p>
+ * The document is laid out in square units: the board is a single rectangle filled with
+ * a 2x2 checkerboard pattern, blocked squares are drawn over it, and the tour is one
+ * polyline through the square centres with a marker on its first and last square.
+ * The size of the document is therefore linear in the length of the tour, whatever the
+ * size of the board.
+ */
+public final class SvgWriter {
+    // Characters collected before they are handed to the writer
+    private static final int FLUSH_THRESHOLD = 4096;
+
+    private SvgWriter() {
+    }
+
+    /**
+     * Writes a tour as SVG.
+     *
+     * @param graph      The graph of the board
+     * @param path       The tour, which may be incomplete or empty
+     * @param squareSize The size of a board square in the document's width and height attributes
+     * @param numbers    Whether to number the moves on their squares
+     * @param out        The writer to write to; it is flushed but not closed
+     * @throws IOException if the writer fails
+     * @throws IllegalArgumentException if squareSize is not positive
+     */
+    public static void write(BoardGraph graph, MoveSequence path, int squareSize, boolean numbers, Writer out)
+            throws IOException {
+        if (squareSize <= 0) {
+            throw new IllegalArgumentException("Square size must be positive");
+        }
+        int width = graph.getWidth();
+        int height = graph.getHeight();
+        StringBuilder svg = new StringBuilder(FLUSH_THRESHOLD + 64);
+
+        svg.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append((long) width * squareSize)
+                .append("\" height=\"").append((long) height * squareSize)
+                .append("\" viewBox=\"0 0 ").append(width).append(' ').append(height).append("\">\n")
+                .append("<defs><pattern id=\"board\" width=\"2\" height=\"2\" patternUnits=\"userSpaceOnUse\">")
+                .append("<rect width=\"2\" height=\"2\" fill=\"#ebecd0\"/>")
+                .append("<rect x=\"1\" width=\"1\" height=\"1\" fill=\"#739552\"/>")
+                .append("<rect y=\"1\" width=\"1\" height=\"1\" fill=\"#739552\"/>")
+                .append("</pattern></defs>\n")
+                .append("<rect width=\"").append(width).append("\" height=\"").append(height)
+                .append("\" fill=\"url(#board)\"/>\n");
+
+        if (graph.hasBlockedSquares()) {
+            svg.append("<g fill=\"#302e2b\">");
+            for (int square = 0; square < graph.getSquareCount(); square++) {
+                if (graph.isBlocked(square)) {
+                    svg.append("<rect x=\"").append(graph.xOf(square)).append("\" y=\"").append(graph.yOf(square))
+                            .append("\" width=\"1\" height=\"1\"/>");
+                    flushIfFull(svg, out);
+                }
+            }
+            svg.append("</g>\n");
+        }
+
+        if (!path.isEmpty()) {
+            svg.append("<polyline fill=\"none\" stroke=\"#ff8c00\" stroke-width=\"0.125\"")
+                    .append(" stroke-linejoin=\"round\" points=\"");
+            for (int i = 0; i < path.size(); i++) {
+                if (i > 0) {
+                    svg.append(' ');
+                }
+                svg.append(path.getX(i)).append(".5,").append(path.getY(i)).append(".5");
+                flushIfFull(svg, out);
+            }
+            svg.append("\"/>\n");
+            appendMarker(svg, path.getX(path.size() - 1), path.getY(path.size() - 1), "#c62828");
+            appendMarker(svg, path.getX(0), path.getY(0), "#2e7d32");
+
+            if (numbers) {
+                svg.append("<g font-family=\"sans-serif\" font-size=\"0.3\" text-anchor=\"middle\" fill=\"#000\">");
+                for (int i = 0; i < path.size(); i++) {
+                    svg.append("<text x=\"").append(path.getX(i)).append(".5\" y=\"").append(path.getY(i))
+                            .append(".6\">").append(i + 1).append("</text>");
+                    flushIfFull(svg, out);
+                }
+                svg.append("</g>\n");
+            }
+        }
+
+        svg.append("</svg>\n");
+        out.append(svg);
+        out.flush();
+    }
+
+    /**
+     * Appends a circle on the centre of a square.
+     */
+    private static void appendMarker(StringBuilder svg, int x, int y, String colour) {
+        svg.append("<circle cx=\"").append(x).append(".5\" cy=\"").append(y)
+                .append(".5\" r=\"0.25\" fill=\"").append(colour).append("\"/>\n");
+    }
+
+    /**
+     * Hands the collected text to the writer once enough has been collected.
+     */
+    private static void flushIfFull(StringBuilder svg, Writer out) throws IOException {
+        if (svg.length() >= FLUSH_THRESHOLD) {
+            out.append(svg);
+            svg.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.knighttour.export;
+
+import com.example.knighttour.batch.BatchReport;
+import com.example.knighttour.batch.BatchSolver;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+import com.example.knighttour.model.TourSolver;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Solves every start square of a board and writes each tour to an image file.
+ * <p>
+ * Tours are solved by a {@link BatchSolver}, and each one is rendered and written on the
+ * worker thread that found it, so solving and encoding run in parallel and no tour is
+ * kept once its files are written. Every worker thread has its own {@link TourRenderer},
+ * whose pixel buffer is reused from one tour to the next. Nothing here touches a window
+ * or a graphics toolkit, so exports run on machines without a display.
+ * <p>
+ * Files are named {@code tour-<board>-<x>-<y>-<mode>.<ext>}, where the board is {@code N}
+ * or {@code WxH}; tours that are not complete get {@code -partial} before the extension.
+ */
+public class TourExporter {
+    /**
+     * The file formats a tour can be written in.
+     */
+    public enum Format {
+        /** Raster image of {@code squareSize} pixels per square. */
+        PNG("png"),
+        /** Vector image with the path as one polyline. */
+        SVG("svg");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Gets the file name extension of the format.
+         *
+         * @return The extension, without a dot
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final BatchSolver solver;
+    private final TourMode mode;
+    private final Path directory;
+    private final Set<Format> formats;
+    private final int squareSize;
+    private final boolean numbers;
+    private final ThreadLocal<TourRenderer> renderers;
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder filesWritten = new LongAdder();
+
+    /**
+     * Creates an exporter.
+     *
+     * @param solverFactory Creates one solver per batch task
+     * @param mode          Whether open or closed tours are required
+     * @param parallelism   The number of worker threads
+     * @param directory     The directory the files are written to; it must exist
+     * @param formats       The formats to write every tour in
+     * @param squareSize    The size of a board square in pixels
+     * @param numbers       Whether SVG files number the moves
+     * @throws IllegalArgumentException if no format is given or squareSize is not positive
+     */
+    public TourExporter(Supplier<TourSolver> solverFactory, TourMode mode, int parallelism, Path directory,
+                        Set<Format> formats, int squareSize, boolean numbers) {
+        if (formats.isEmpty()) {
+            throw new IllegalArgumentException("At least one format is required");
+        }
+        if (squareSize <= 0) {
+            throw new IllegalArgumentException("Square size must be positive");
+        }
+        this.solver = new BatchSolver(solverFactory, mode, parallelism);
+        this.mode = mode;
+        this.directory = directory;
+        this.formats = EnumSet.copyOf(formats);
+        this.squareSize = squareSize;
+        this.numbers = numbers;
+        this.renderers = ThreadLocal.withInitial(() -> new TourRenderer(squareSize));
+    }
+
+    /**
+     * Solves every open start square of a board and writes its tour.
+     *
+     * @param graph The graph of the board
+     * @return The per-start results
+     * @throws UncheckedIOException if a file cannot be written
+     * @throws IllegalArgumentException if PNG is requested and the image would be too large
+     */
+    public BatchReport exportAllStarts(BoardGraph graph) {
+        if (formats.contains(Format.PNG)) {
+            long largest = (long) Math.max(graph.getWidth(), graph.getHeight()) * squareSize;
+            if (largest > TourRenderer.MAX_IMAGE_SIZE) {
+                throw new IllegalArgumentException("PNG of " + largest + " pixels per side exceeds "
+                        + TourRenderer.MAX_IMAGE_SIZE + "; use a smaller square size");
+            }
+        }
+        return solver.solveAllStarts(graph, result -> {
+            try {
+                export(graph, result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Writes one tour in every requested format.
+     */
+    private void export(BoardGraph graph, TourResult result) throws IOException {
+        for (Format format : formats) {
+            Path file = directory.resolve(fileName(graph, result, format));
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                if (format == Format.PNG) {
+                    TourRenderer renderer = renderers.get();
+                    int[] pixels = renderer.render(graph, result.getPath());
+                    PngEncoder.write(pixels, renderer.getImageWidth(), renderer.getImageHeight(), out);
+                } else {
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    SvgWriter.write(graph, result.getPath(), squareSize, numbers, writer);
+                }
+            }
+            bytesWritten.add(Files.size(file));
+            filesWritten.increment();
+        }
+    }
+
+    /**
+     * Names the file of a tour.
+     */
+    private String fileName(BoardGraph graph, TourResult result, Format format) {
+        String board = graph.getWidth() == graph.getHeight()
+                ? Integer.toString(graph.getWidth())
+                : graph.getWidth() + "x" + graph.getHeight();
+        int start = result.getStart();
+        return "tour-" + board + "-" + graph.xOf(start) + "-" + graph.yOf(start) + "-"
+                + mode.name().toLowerCase() + (result.isComplete() ? "" : "-partial") + "." + format.getExtension();
+    }
+
+    /**
+     * Gets the number of bytes written since the exporter was created.
+     *
+     * @return The total size of the files written
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Gets the number of files written since the exporter was created.
+     *
+     * @return The file count
+     */
+    public long getFilesWritten() {
+        return filesWritten.sum();
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    public void shutdown() {
+        solver.shutdown();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.knighttour.export;
+
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.MoveSequence;
+
+import java.util.Arrays;
+
+/**
+ * Draws a tour into an {@code int[]} of ARGB pixels, without a window or a graphics toolkit.
+ * <p>
+ * Each board square is {@code squareSize} pixels wide. The squares of a board row are
+ * filled into their first pixel row, which is then copied to the rows below it, and the
+ * path is drawn as straight lines between square centres with a square brush about an
+ * eighth of a square wide. The pixel buffer is kept and reused between calls, so a renderer
+ * is not thread-safe; give each thread its own.
+ */
+public class TourRenderer {
+    /** Largest image width or height, in pixels. */
+    public static final int MAX_IMAGE_SIZE = 16384;
+
+    private static final int LIGHT = 0xFFEBECD0;
+    private static final int DARK = 0xFF739552;
+    private static final int BLOCKED = 0xFF302E2B;
+    private static final int PATH = 0xFFFF8C00;
+    private static final int START = 0xFF2E7D32;
+    private static final int END = 0xFFC62828;
+
+    private final int squareSize;
+    private final int brush;
+
+    private int[] pixels = new int[0];
+    private int imageWidth;
+    private int imageHeight;
+
+    /**
+     * Creates a renderer.
+     *
+     * @param squareSize The size of a board square in pixels
+     * @throws IllegalArgumentException if squareSize is not positive
+     */
+    public TourRenderer(int squareSize) {
+        if (squareSize <= 0) {
+            throw new IllegalArgumentException("Square size must be positive");
+        }
+        this.squareSize = squareSize;
+        this.brush = Math.max(1, squareSize / 8);
+    }
+
+    /**
+     * Draws the board and a tour on it.
+     * <p>
+     * The returned array belongs to the renderer and is overwritten by the next call. It
+     * may be longer than the image; only the first {@code getImageWidth() * getImageHeight()}
+     * pixels are used.
+     *
+     * @param graph The graph of the board
+     * @param path  The tour, which may be incomplete or empty
+     * @return The pixels in ARGB order, row by row
+     * @throws IllegalArgumentException if the image would be wider or taller than {@link #MAX_IMAGE_SIZE}
+     */
+    public int[] render(BoardGraph graph, MoveSequence path) {
+        long width = (long) graph.getWidth() * squareSize;
+        long height = (long) graph.getHeight() * squareSize;
+        if (width > MAX_IMAGE_SIZE || height > MAX_IMAGE_SIZE) {
+            throw new IllegalArgumentException("Image of " + width + "x" + height + " pixels exceeds "
+                    + MAX_IMAGE_SIZE + " pixels per side; use a smaller square size");
+        }
+        imageWidth = (int) width;
+        imageHeight = (int) height;
+        if (pixels.length < imageWidth * imageHeight) {
+            pixels = new int[imageWidth * imageHeight];
+        }
+
+        drawSquares(graph);
+        if (!path.isEmpty()) {
+            int half = squareSize / 2;
+            for (int i = 1; i < path.size(); i++) {
+                drawLine(path.getX(i - 1) * squareSize + half, path.getY(i - 1) * squareSize + half,
+                        path.getX(i) * squareSize + half, path.getY(i) * squareSize + half);
+            }
+            drawMarker(path.getX(path.size() - 1), path.getY(path.size() - 1), END);
+            drawMarker(path.getX(0), path.getY(0), START);
+        }
+        return pixels;
+    }
+
+    /**
+     * Gets the width of the last rendered image.
+     *
+     * @return The width in pixels
+     */
+    public int getImageWidth() {
+        return imageWidth;
+    }
+
+    /**
+     * Gets the height of the last rendered image.
+     *
+     * @return The height in pixels
+     */
+    public int getImageHeight() {
+        return imageHeight;
+    }
+
+    /**
+     * Gets the size of a board square.
+     *
+     * @return The square size in pixels
+     */
+    public int getSquareSize() {
+        return squareSize;
+    }
+
+    /**
+     * Fills the checkerboard, one pixel row per board row, copied downwards.
+     */
+    private void drawSquares(BoardGraph graph) {
+        int width = graph.getWidth();
+        for (int y = 0; y < graph.getHeight(); y++) {
+            int rowStart = y * squareSize * imageWidth;
+            for (int x = 0; x < width; x++) {
+                int square = graph.squareOf(x, y);
+                int colour = graph.isBlocked(square) ? BLOCKED : ((x + y) & 1) == 0 ? LIGHT : DARK;
+                int from = rowStart + x * squareSize;
+                Arrays.fill(pixels, from, from + squareSize, colour);
+            }
+            for (int row = 1; row < squareSize; row++) {
+                System.arraycopy(pixels, rowStart, pixels, rowStart + row * imageWidth, imageWidth);
+            }
+        }
+    }
+
+    /**
+     * Draws a line between two pixel centres with Bresenham's algorithm and the square brush.
+     */
+    private void drawLine(int x0, int y0, int x1, int y1) {
+        int dx = Math.abs(x1 - x0);
+        int dy = -Math.abs(y1 - y0);
+        int stepX = x0 < x1 ? 1 : -1;
+        int stepY = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+        while (true) {
+            stamp(x0, y0, brush, PATH);
+            if (x0 == x1 && y0 == y1) {
+                return;
+            }
+            int doubled = 2 * error;
+            if (doubled >= dy) {
+                error += dy;
+                x0 += stepX;
+            }
+            if (doubled <= dx) {
+                error += dx;
+                y0 += stepY;
+            }
+        }
+    }
+
+    /**
+     * Marks a square with a block of half its size in its centre.
+     */
+    private void drawMarker(int x, int y, int colour) {
+        int size = Math.max(brush, squareSize / 2);
+        stamp(x * squareSize + squareSize / 2, y * squareSize + squareSize / 2, size, colour);
+    }
+
+    /**
+     * Fills a square of pixels centred on a point, clipped to the image.
+     */
+    private void stamp(int centreX, int centreY, int size, int colour) {
+        int left = Math.max(0, centreX - size / 2);
+        int top = Math.max(0, centreY - size / 2);
+        int right = Math.min(imageWidth, centreX - size / 2 + size);
+        int bottom = Math.min(imageHeight, centreY - size / 2 + size);
+        for (int y = top; y < bottom; y++) {
+            Arrays.fill(pixels, y * imageWidth + left, y * imageWidth + right, colour);
+        }
+    }
+}
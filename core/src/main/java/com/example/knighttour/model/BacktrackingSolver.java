@@ -0,0 +1,366 @@
+package com.example.knighttour.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Warnsdorff search with tie-breaking and bounded backtracking.
+ * Candidate moves are tried in order of fewest onward moves; equal candidates are
+ * ordered by the configured {@link TieBreak}. When the knight gets stuck the search
+ * backtracks, until a tour is found or the node budget is spent.
+ * <p>
+ * A {@link TourMode#CLOSED} tour is found in two phases: first an open tour from the
+ * start, then end-point rotations (Pósa) that keep the start fixed and walk the free
+ * end of the path towards the start until it is one knight's move away. Each rotation
+ * counts as one node against the same budget.
+ * <p>
+ * Boards that fail a {@link Feasibility} check are rejected before the search starts.
+ * Every result carries the {@link SolverMetrics} of its search, including the number
+ * of backtracks and the depth of the deepest dead end.
+ */
+public class BacktrackingSolver implements TourSolver {
+    /** Default maximum number of nodes expanded per search. */
+    public static final long DEFAULT_NODE_BUDGET = 1_000_000;
+
+    // One rotation in this many is chosen at random to escape local minima
+    private static final int RANDOM_ROTATION_RATE = 8;
+    // Rotations tried per open tour, in multiples of the number of squares
+    private static final int ROTATIONS_PER_SQUARE = 8;
+
+    /**
+     * How candidates with the same number of onward moves are ordered.
+     */
+    public enum TieBreak {
+        /** Keep the knight move order, like {@link KnightTour}. */
+        MOVE_ORDER,
+        /** Prefer the square farthest from the centre of the board. */
+        CENTRE_DISTANCE,
+        /** Prefer the smallest sum of onward degrees (Pohl), then the farthest from the centre. */
+        POHL
+    }
+
+    private final TieBreak tieBreak;
+    private final long nodeBudget;
+    private final SolverStats stats = new SolverStats();
+
+    private BoardGraph graph;
+    private int tourLength;
+    private int[] neighbours;
+    private int stride;
+    private BitBoard visited;
+    private int[] remainingDegree;
+    private int[] path;
+    private int[] cycle;
+    private int[] positions;
+    private int[] candidates;
+    private int[] candidateCount;
+    private int[] cursor;
+    private long[] keys;
+
+    /**
+     * Creates a solver with centre-distance tie-breaking and the default node budget.
+     */
+    public BacktrackingSolver() {
+        this(TieBreak.CENTRE_DISTANCE, DEFAULT_NODE_BUDGET);
+    }
+
+    /**
+     * Creates a solver with the given tie-breaking rule and node budget.
+     *
+     * @param tieBreak   How to order candidates with equal degree
+     * @param nodeBudget The maximum number of nodes expanded per search
+     */
+    public BacktrackingSolver(TieBreak tieBreak, long nodeBudget) {
+        this.tieBreak = tieBreak;
+        this.nodeBudget = nodeBudget;
+    }
+
+    @Override
+    public TourResult solve(BoardGraph graph, int start, TourMode mode) {
+        stats.start();
+        prepare(graph);
+
+        int total = graph.getOpenSquareCount();
+        boolean closed = mode == TourMode.CLOSED;
+        if (Feasibility.check(graph, start, mode) != Feasibility.POSSIBLE) {
+            return stats.finish("backtracking", graph, mode, MoveSequence.wrap(graph.getWidth(), new int[]{start}),
+                    false, true);
+        }
+
+        long nodes = 0;
+        int depth = 0;
+        int bestDepth = 0;
+        int[] best = new int[]{start};
+        boolean complete = false;
+
+        visited.clearAll();
+        System.arraycopy(graph.degreeTable(), 0, remainingDegree, 0, remainingDegree.length);
+        visit(start, 0);
+        generateCandidates(0, start);
+
+        while (true) {
+            if (depth == total - 1) {
+                if (!closed) {
+                    complete = true;
+                    break;
+                }
+                // Try to close this open tour; if that fails, backtrack to the next one
+                long limit = Math.min(nodeBudget - nodes, (long) ROTATIONS_PER_SQUARE * total);
+                long rotations = closeTour(start, limit, nodes);
+                nodes += rotations >= 0 ? rotations : limit;
+                if (rotations >= 0) {
+                    complete = true;
+                    break;
+                }
+            }
+            if (depth > bestDepth) {
+                bestDepth = depth;
+            }
+
+            if (cursor[depth] < candidateCount[depth] && nodes < nodeBudget) {
+                int next = candidates[depth * stride + cursor[depth]++];
+                nodes++;
+                depth++;
+                visit(next, depth);
+                generateCandidates(depth, next);
+                continue;
+            }
+
+            // Dead end or out of budget: remember the longest path and step back
+            if (depth == bestDepth && depth + 1 > best.length) {
+                best = Arrays.copyOf(path, depth + 1);
+            }
+            if (nodes < nodeBudget && depth < total - 1) {
+                stats.recordDeadEnd(depth + 1);
+            }
+            if (depth == 0 || nodes >= nodeBudget) {
+                break;
+            }
+            unvisit(path[depth]);
+            depth--;
+            stats.addBacktracks(1);
+        }
+
+        stats.addNodes(nodes);
+        int[] result = complete ? Arrays.copyOf(closed ? cycle : path, total) : best;
+        return stats.finish("backtracking", graph, mode, MoveSequence.wrap(graph.getWidth(), result), complete);
+    }
+
+    /**
+     * Allocates the search buffers for a graph, reusing them when the graph is unchanged.
+     *
+     * @param graph The knight graph to search
+     */
+    private void prepare(BoardGraph graph) {
+        if (this.graph == graph) {
+            return;
+        }
+        int total = graph.getSquareCount();
+        this.graph = graph;
+        this.tourLength = graph.getOpenSquareCount();
+        this.neighbours = graph.neighbourTable();
+        this.stride = graph.getStride();
+        this.visited = new BitBoard(total);
+        this.remainingDegree = new int[total];
+        this.path = new int[total];
+        this.cycle = new int[total];
+        this.positions = new int[total];
+        this.candidates = new int[total * stride];
+        this.candidateCount = new int[total];
+        this.cursor = new int[total];
+        this.keys = new long[stride];
+    }
+
+    /**
+     * Collects and orders the moves available at a given depth.
+     * Leaves the candidate list empty when the position provably cannot be completed.
+     *
+     * @param depth  The current search depth
+     * @param square The square the knight is on
+     */
+    private void generateCandidates(int depth, int square) {
+        int base = depth * stride;
+        int count = 0;
+        cursor[depth] = 0;
+        candidateCount[depth] = 0;
+
+        boolean lastMove = depth + 2 == tourLength;
+        int from = square * stride;
+        int end = from + graph.degree(square);
+        for (int i = from; i < end; i++) {
+            int next = neighbours[i];
+            if (visited.get(next)) {
+                continue;
+            }
+            // A square with no onward moves can only be the last one
+            if (remainingDegree[next] == 0 && !lastMove) {
+                return;
+            }
+
+            stats.addDegreeEvaluations(1);
+            long key = sortKey(next);
+            int j = count++;
+            while (j > 0 && keys[j - 1] > key) {
+                keys[j] = keys[j - 1];
+                candidates[base + j] = candidates[base + j - 1];
+                j--;
+            }
+            keys[j] = key;
+            candidates[base + j] = next;
+        }
+        candidateCount[depth] = count;
+        // The key starts with the onward degree, so a tie shows in the first two keys
+        if (count > 1 && keys[0] >>> 48 == keys[1] >>> 48) {
+            stats.addTies(1);
+        }
+    }
+
+    /**
+     * Computes the ordering key of a candidate square; smaller keys are tried first.
+     *
+     * @param square The candidate square
+     * @return The ordering key
+     */
+    private long sortKey(int square) {
+        long key = (long) remainingDegree[square] << 48;
+        if (tieBreak == TieBreak.MOVE_ORDER) {
+            return key;
+        }
+
+        if (tieBreak == TieBreak.POHL) {
+            int sum = 0;
+            int from = square * stride;
+            int end = from + graph.degree(square);
+            for (int i = from; i < end; i++) {
+                if (!visited.get(neighbours[i])) {
+                    sum += remainingDegree[neighbours[i]];
+                }
+            }
+            key |= (long) sum << 32;
+        }
+
+        // Farther from the centre sorts first
+        long dx = 2L * graph.xOf(square) - (graph.getWidth() - 1);
+        long dy = 2L * graph.yOf(square) - (graph.getHeight() - 1);
+        long maxDistance = (long) graph.getWidth() * graph.getWidth() + (long) graph.getHeight() * graph.getHeight();
+        return key | ((maxDistance - (dx * dx + dy * dy) / 4) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Turns a copy of the open tour in {@link #path} into a closed one in {@link #cycle}
+     * by rotating its free end. If the last square is adjacent to {@code cycle[i]},
+     * reversing {@code cycle[i+1..last]} gives another tour from the same start that ends
+     * on {@code cycle[i+1]}. Rotations are chosen to bring the end closer to the start.
+     *
+     * @param start  The start square, which never moves
+     * @param budget The maximum number of rotations
+     * @param seed   Seed for the random rotations, so that results are reproducible
+     * @return The number of rotations used, or -1 if the budget ran out
+     */
+    private long closeTour(int start, long budget, long seed) {
+        int last = tourLength - 1;
+        System.arraycopy(path, 0, cycle, 0, tourLength);
+        for (int i = 0; i <= last; i++) {
+            positions[cycle[i]] = i;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long rotations = 0; rotations < budget; rotations++) {
+            int end = cycle[last];
+            if (WarnsdorffSolver.isNeighbour(graph, end, start)) {
+                return rotations;
+            }
+
+            int pivot = -1;
+            int bestDistance = Integer.MAX_VALUE;
+            int ties = 0;
+            boolean explore = random.nextInt(RANDOM_ROTATION_RATE) == 0;
+            for (int i = 0; i < graph.degree(end); i++) {
+                int index = positions[graph.neighbour(end, i)];
+                if (index >= last - 1) {
+                    continue;
+                }
+                int distance = explore ? 0 : knightDistance(cycle[index + 1], start);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    pivot = index;
+                    ties = 1;
+                } else if (distance == bestDistance && random.nextInt(++ties) == 0) {
+                    pivot = index;
+                }
+            }
+            if (pivot < 0) {
+                return -1;
+            }
+            reverse(pivot + 1, last);
+        }
+        return -1;
+    }
+
+    /**
+     * Reverses a segment of the cycle being closed and keeps the square positions in sync.
+     *
+     * @param from The first index of the segment
+     * @param to   The last index of the segment
+     */
+    private void reverse(int from, int to) {
+        while (from < to) {
+            int square = cycle[from];
+            cycle[from] = cycle[to];
+            cycle[to] = square;
+            positions[cycle[from]] = from;
+            positions[cycle[to]] = to;
+            from++;
+            to--;
+        }
+    }
+
+    /**
+     * Estimates the number of knight moves between two squares on an open board.
+     *
+     * @param from The first square
+     * @param to   The second square
+     * @return A lower bound on the knight distance
+     */
+    private int knightDistance(int from, int to) {
+        int dx = Math.abs(graph.xOf(from) - graph.xOf(to));
+        int dy = Math.abs(graph.yOf(from) - graph.yOf(to));
+        return Math.max(Math.max((dx + 1) / 2, (dy + 1) / 2), (dx + dy + 2) / 3);
+    }
+
+    /**
+     * Marks a square as visited at the given depth.
+     *
+     * @param square The packed square index
+     * @param depth  The depth of the square in the path
+     */
+    private void visit(int square, int depth) {
+        visited.set(square);
+        path[depth] = square;
+        adjustNeighbourDegrees(square, -1);
+    }
+
+    /**
+     * Undoes {@link #visit(int, int)} for a square.
+     *
+     * @param square The packed square index
+     */
+    private void unvisit(int square) {
+        visited.clear(square);
+        adjustNeighbourDegrees(square, 1);
+    }
+
+    /**
+     * Adds a delta to the remaining degree of every neighbour of a square.
+     *
+     * @param square The packed square index
+     * @param delta  The amount to add
+     */
+    private void adjustNeighbourDegrees(int square, int delta) {
+        int from = square * stride;
+        int end = from + graph.degree(square);
+        for (int i = from; i < end; i++) {
+            remainingDegree[neighbours[i]] += delta;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.knighttour.model;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size set of squares backed by 64-bit words.
+ * Square indices are packed as {@code y * width + x}, so boards larger than 8x8
+ * simply span several words.
+ */
+public class BitBoard {
+    private final int size;
+    private final long[] words;
+
+    /**
+     * Creates an empty bitboard able to hold the given number of squares.
+     *
+     * @param size The number of squares on the board
+     */
+    public BitBoard(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Creates a copy of another bitboard.
+     *
+     * @param other The bitboard to copy
+     */
+    public BitBoard(BitBoard other) {
+        this.size = other.size;
+        this.words = other.words.clone();
+    }
+
+    /**
+     * Checks whether a square is set.
+     *
+     * @param index The packed square index
+     * @return true if the square is set, false otherwise
+     */
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets a square.
+     *
+     * @param index The packed square index
+     */
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears a square.
+     *
+     * @param index The packed square index
+     */
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Clears every square on the board.
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Counts the squares that are set.
+     *
+     * @return The number of set squares
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of squares this bitboard can hold.
+     *
+     * @return The number of squares
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.knighttour.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Allocation-free Warnsdorff engine for the Knight's Tour problem.
+ * Visited squares are tracked in a {@link BitBoard} and every square keeps an
+ * incremental count of its unvisited neighbours, so choosing the next move is a
+ * single pass over at most eight precomputed neighbours.
+ * Ties are broken the same way as {@link KnightTour}, so both engines produce
+ * identical tours, unless a random source is set with {@link #setRandom(SplittableRandom)};
+ * then every tied candidate is equally likely to be chosen. The engine counts the
+ * candidates it evaluates and the ties it breaks, which {@link WarnsdorffSolver} reports
+ * in its {@link SolverMetrics}.
+ */
+public class BitboardTour {
+    private final BoardGraph graph;
+    private final int[] neighbours;
+    private final int stride;
+    private final BitBoard visited;
+    private final int[] remainingDegree;
+    private final MoveSequence path;
+    private SplittableRandom random;
+    private int currentSquare;
+    private int moveCount;
+    private long degreeEvaluations;
+    private long ties;
+
+    /**
+     * Creates a new engine for a square board.
+     *
+     * @param boardSize The size of the chess board
+     */
+    public BitboardTour(int boardSize) {
+        this(BoardGraph.forSize(boardSize));
+    }
+
+    /**
+     * Creates a new engine for the given knight graph.
+     * The knight starts in the top-left corner, or on the first open square if the corner is blocked.
+     *
+     * @param graph The precomputed knight graph
+     */
+    public BitboardTour(BoardGraph graph) {
+        this(graph, true);
+    }
+
+    /**
+     * Creates a new engine for the given knight graph, optionally without recording the path.
+     * Without a path the engine only knows the current square, which is enough to
+     * stream a tour move by move.
+     *
+     * @param graph    The precomputed knight graph
+     * @param keepPath Whether to record the visited squares in order
+     */
+    public BitboardTour(BoardGraph graph, boolean keepPath) {
+        this.graph = graph;
+        this.neighbours = graph.neighbourTable();
+        this.stride = graph.getStride();
+        this.visited = new BitBoard(graph.getSquareCount());
+        this.remainingDegree = new int[graph.getSquareCount()];
+        this.path = keepPath ? new MoveSequence(graph.getWidth(), graph.getSquareCount()) : null;
+
+        int first = 0;
+        while (first < graph.getSquareCount() - 1 && graph.isBlocked(first)) {
+            first++;
+        }
+        reset(first);
+    }
+
+    /**
+     * Sets the initial position of the knight and resets the tour.
+     *
+     * @param x The x-coordinate (column) of the initial position
+     * @param y The y-coordinate (row) of the initial position
+     * @throws IllegalArgumentException if the position is invalid
+     */
+    public void setInitialPosition(int x, int y) {
+        if (!graph.isWithinBounds(x, y)) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        start(graph.squareOf(x, y));
+    }
+
+    /**
+     * Resets the tour and places the knight on the given square.
+     *
+     * @param square The packed index of the starting square
+     * @throws IllegalArgumentException if the square is blocked
+     */
+    public void start(int square) {
+        if (graph.isBlocked(square)) {
+            throw new IllegalArgumentException("Position is blocked");
+        }
+        reset(square);
+    }
+
+    /**
+     * Clears the tour and the counters and visits the first square.
+     *
+     * @param square The packed index of the starting square
+     */
+    private void reset(int square) {
+        visited.clearAll();
+        System.arraycopy(graph.degreeTable(), 0, remainingDegree, 0, remainingDegree.length);
+        if (path != null) {
+            path.clear();
+        }
+        moveCount = 0;
+        degreeEvaluations = 0;
+        ties = 0;
+        visit(square);
+    }
+
+    /**
+     * Sets the source used to break ties between candidates with the same number of
+     * onward moves. The random source is kept when the tour is restarted.
+     *
+     * @param random The random source, or null to break ties by move order
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Calculates and performs the next move using Warnsdorff's algorithm.
+     *
+     * @return true if a move was made, false if no valid moves exist
+     */
+    public boolean makeNextMove() {
+        int base = currentSquare * stride;
+        int end = base + graph.degree(currentSquare);
+        int bestSquare = -1;
+        int minDegree = Integer.MAX_VALUE;
+        int evaluated = 0;
+        int candidates = 0;
+        boolean tied = false;
+
+        for (int i = base; i < end; i++) {
+            int next = neighbours[i];
+            if (visited.get(next)) {
+                continue;
+            }
+            evaluated++;
+            int degree = remainingDegree[next];
+            if (degree < minDegree) {
+                minDegree = degree;
+                bestSquare = next;
+                candidates = 1;
+                tied = false;
+            } else if (degree == minDegree) {
+                tied = true;
+                // Reservoir sampling: the k-th tied candidate replaces the choice with probability 1/k
+                if (random != null && random.nextInt(++candidates) == 0) {
+                    bestSquare = next;
+                }
+            }
+        }
+        degreeEvaluations += evaluated;
+        if (tied) {
+            ties++;
+        }
+
+        if (bestSquare == -1) {
+            return false;
+        }
+        visit(bestSquare);
+        return true;
+    }
+
+    /**
+     * Makes moves until the knight gets stuck or the board is covered.
+     *
+     * @return true if every square was visited, false otherwise
+     */
+    public boolean solve() {
+        while (makeNextMove()) {
+            // keep moving
+        }
+        return isComplete();
+    }
+
+    /**
+     * Marks a square as visited and updates the degrees of its neighbours.
+     *
+     * @param square The packed square index
+     */
+    private void visit(int square) {
+        visited.set(square);
+        int base = square * stride;
+        int end = base + graph.degree(square);
+        for (int i = base; i < end; i++) {
+            remainingDegree[neighbours[i]]--;
+        }
+        if (path != null) {
+            path.add(square);
+        }
+        moveCount++;
+        currentSquare = square;
+    }
+
+    /**
+     * Checks whether every square has been visited.
+     *
+     * @return true if the tour is complete
+     */
+    public boolean isComplete() {
+        return moveCount == graph.getOpenSquareCount();
+    }
+
+    // Getters
+
+    /**
+     * Gets the knight graph this engine runs on.
+     *
+     * @return The knight graph
+     */
+    public BoardGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Gets the visited squares in order.
+     * The sequence is reused between runs and must not be modified.
+     *
+     * @return The packed square indices of the tour so far
+     * @throws IllegalStateException if the engine was created without a path
+     */
+    public MoveSequence getPath() {
+        if (path == null) {
+            throw new IllegalStateException("Path is not recorded");
+        }
+        return path;
+    }
+
+    /**
+     * Gets the square the knight is currently on.
+     *
+     * @return The packed index of the current square
+     */
+    public int getCurrentSquare() {
+        return currentSquare;
+    }
+
+    /**
+     * Gets the number of candidate squares evaluated since the tour was started.
+     *
+     * @return The degree evaluation count
+     */
+    long getDegreeEvaluations() {
+        return degreeEvaluations;
+    }
+
+    /**
+     * Gets the number of moves, since the tour was started, where several candidates
+     * had the fewest onward moves.
+     *
+     * @return The tie count
+     */
+    long getTies() {
+        return ties;
+    }
+
+    /**
+     * Gets the current move count.
+     *
+     * @return The number of squares visited so far, including the start
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
@@ -0,0 +1,445 @@
+package com.example.knighttour.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Divide-and-conquer construction of knight's tours on very large boards.
+ * <p>
+ * In the style of Parberry's method, the board is cut into blocks of 5 to 13 squares
+ * per side. Every block gets a precomputed tour of its own, and neighbouring tours are
+ * stitched together by swapping two tour edges across their shared border: if
+ * {@code a1-a2} is an edge of one tour, {@code b1-b2} an edge of the other, and both
+ * {@code a1-b1} and {@code a2-b2} are knight moves, replacing the first two edges with
+ * the last two joins the tours into one. The work is linear in the number of squares.
+ * <p>
+ * While building, the tour is stored as one byte per square holding the move indices
+ * (into {@link MoveSet#KNIGHT}) of its two tour neighbours, one per nibble. Move
+ * indices do not change when a block is shifted, so block tours are copied in row by row.
+ * <p>
+ * Boards with an even side get a closed tour. Boards with an odd side have one more
+ * square of the corner colour, so they get an open tour starting at the requested
+ * square, which must then have the corner colour.
+ */
+public class BlockTourBuilder {
+    private static final int NONE = 0xF;
+    private static final int MIN_ODD_PART = 5;
+    private static final int MAX_ODD_PART = 13;
+
+    // Block tours in nibble form, keyed by width, height and local start (-1 for closed tours)
+    private static final Map<Long, byte[]> BLOCK_TOURS = new ConcurrentHashMap<>();
+
+    private int boardSize;
+    private byte[] links;
+
+    /**
+     * Builds a tour of a square board.
+     *
+     * @param boardSize The size of the chess board
+     * @param start     The packed start square ({@code y * boardSize + x})
+     * @param mode      Whether an open or a closed tour is required
+     * @return The packed squares of the tour, in visiting order, starting at {@code start}
+     * @throws IllegalArgumentException if no tour of the requested kind can be built
+     */
+    public MoveSequence build(int boardSize, int start, TourMode mode) {
+        if (boardSize == 1 && mode == TourMode.OPEN) {
+            return MoveSequence.wrap(1, new int[]{0});
+        }
+        if (boardSize < MIN_ODD_PART) {
+            throw new IllegalArgumentException(
+                    "No knight's tour exists on a " + boardSize + "x" + boardSize + " board");
+        }
+        if (start < 0 || start >= boardSize * boardSize) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+
+        int startX = start % boardSize;
+        int startY = start / boardSize;
+        boolean odd = boardSize % 2 == 1;
+        if (odd && mode == TourMode.CLOSED) {
+            throw new IllegalArgumentException("Closed tours need an even number of squares");
+        }
+        if (odd && (startX + startY) % 2 == 1) {
+            throw new IllegalArgumentException("Open tours on odd boards must start on the corner colour");
+        }
+
+        this.boardSize = boardSize;
+        this.links = new byte[boardSize * boardSize];
+
+        int[] columns = partition(boardSize);
+        int[] rows = columns;
+        if (odd) {
+            // Not every square of a small odd block starts an open tour, so try several splits
+            int[][] split = splitAroundStart(boardSize, startX, startY);
+            columns = split[0];
+            rows = split[1];
+        }
+        int[] columnStarts = offsets(columns);
+        int[] rowStarts = offsets(rows);
+
+        // Lay down one tour per block; only the block holding the start may be open
+        for (int row = 0; row < rows.length; row++) {
+            for (int col = 0; col < columns.length; col++) {
+                int width = columns[col];
+                int height = rows[row];
+                int localStart = -1;
+                if (width % 2 == 1 && height % 2 == 1) {
+                    localStart = (startY - rowStarts[row]) * width + (startX - columnStarts[col]);
+                }
+                byte[] block = blockTour(width, height, localStart);
+                for (int y = 0; y < height; y++) {
+                    System.arraycopy(block, y * width, links,
+                            (rowStarts[row] + y) * boardSize + columnStarts[col], width);
+                }
+            }
+        }
+
+        // Join each block to its left neighbour, then each band of blocks to the band above
+        for (int row = 0; row < rows.length; row++) {
+            for (int col = 1; col < columns.length; col++) {
+                if (!joinAcrossColumn(columnStarts[col], rowStarts[row], rows[row])) {
+                    throw new IllegalStateException("Could not join blocks at column " + columnStarts[col]);
+                }
+            }
+            if (row > 0 && !joinAcrossRow(rowStarts[row], columns, columnStarts)) {
+                throw new IllegalStateException("Could not join blocks at row " + rowStarts[row]);
+            }
+        }
+
+        int[] tour = walk(start);
+        links = null;
+        return MoveSequence.wrap(boardSize, tour);
+    }
+
+    /**
+     * Splits an even side into parts of 6, 8 and 10 squares.
+     *
+     * @param length The even length to split
+     * @return The part sizes
+     */
+    private static int[] partition(int length) {
+        int count = length / 8;
+        int remainder = length % 8;
+        if (remainder == 2) {
+            // 8 + 2 becomes 10
+            int[] parts = filled(count, 8);
+            parts[count - 1] = 10;
+            return parts;
+        }
+        if (remainder == 4) {
+            // 8 + 4 becomes 6 + 6
+            int[] parts = filled(count + 1, 8);
+            parts[count - 1] = 6;
+            parts[count] = 6;
+            return parts;
+        }
+        if (remainder == 6) {
+            int[] parts = filled(count + 1, 8);
+            parts[count] = 6;
+            return parts;
+        }
+        return filled(count, 8);
+    }
+
+    /**
+     * Splits both sides of an odd board so that the start falls inside the single
+     * odd-by-odd block, and that block has an open tour from the start.
+     *
+     * @param boardSize The odd size of the board
+     * @param startX    The x-coordinate (column) of the start
+     * @param startY    The y-coordinate (row) of the start
+     * @return The column part sizes and the row part sizes
+     */
+    private static int[][] splitAroundStart(int boardSize, int startX, int startY) {
+        List<int[]> columnSplits = partitionsAround(boardSize, startX);
+        List<int[]> rowSplits = partitionsAround(boardSize, startY);
+        for (int[] columns : columnSplits) {
+            for (int[] rows : rowSplits) {
+                int col = oddPart(columns);
+                int row = oddPart(rows);
+                int localX = startX - offsets(columns)[col];
+                int localY = startY - offsets(rows)[row];
+                try {
+                    blockTour(columns[col], rows[row], localY * columns[col] + localX);
+                    return new int[][]{columns, rows};
+                } catch (IllegalStateException e) {
+                    // no open tour from this square of the block, try the next split
+                }
+            }
+        }
+        throw new IllegalArgumentException("No open tour found from (" + startX + ", " + startY + ")");
+    }
+
+    /**
+     * Lists the ways of splitting an odd side into one odd part covering the given
+     * coordinate and even parts before and after it, smallest odd part first.
+     *
+     * @param length     The odd length to split
+     * @param coordinate The coordinate that must fall inside the odd part
+     * @return The possible part sizes
+     */
+    private static List<int[]> partitionsAround(int length, int coordinate) {
+        List<int[]> splits = new ArrayList<>();
+        for (int odd = MIN_ODD_PART; odd <= Math.min(MAX_ODD_PART, length); odd += 2) {
+            for (int before = coordinate - coordinate % 2; before > coordinate - odd && before >= 0; before -= 2) {
+                int after = length - odd - before;
+                if (isPartitionable(before) && isPartitionable(after)) {
+                    int[] head = before == 0 ? new int[0] : partition(before);
+                    int[] tail = after == 0 ? new int[0] : partition(after);
+                    int[] parts = new int[head.length + 1 + tail.length];
+                    System.arraycopy(head, 0, parts, 0, head.length);
+                    parts[head.length] = odd;
+                    System.arraycopy(tail, 0, parts, head.length + 1, tail.length);
+                    splits.add(parts);
+                }
+            }
+        }
+        return splits;
+    }
+
+    private static int oddPart(int[] parts) {
+        int i = 0;
+        while (parts[i] % 2 == 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Checks whether a length can be split into parts of 6, 8 and 10 squares.
+     *
+     * @param length The length to check
+     * @return true if {@link #partition(int)} can split it
+     */
+    private static boolean isPartitionable(int length) {
+        return length == 0 || (length % 2 == 0 && length >= 6);
+    }
+
+    private static int[] filled(int count, int value) {
+        int[] parts = new int[count];
+        Arrays.fill(parts, value);
+        return parts;
+    }
+
+    private static int[] offsets(int[] parts) {
+        int[] offsets = new int[parts.length];
+        for (int i = 1; i < parts.length; i++) {
+            offsets[i] = offsets[i - 1] + parts[i - 1];
+        }
+        return offsets;
+    }
+
+    /**
+     * Gets the tour of a single block in nibble form, solving and caching it on first use.
+     *
+     * @param width      The block width
+     * @param height     The block height
+     * @param localStart The start square of an open tour, or -1 for a closed tour
+     * @return The block tour, one byte per square
+     * @throws IllegalStateException if the block has no such tour
+     */
+    private static byte[] blockTour(int width, int height, int localStart) {
+        long key = ((long) width << 40) | ((long) height << 20) | (localStart & 0xFFFFF);
+        TourMode mode = localStart < 0 ? TourMode.CLOSED : TourMode.OPEN;
+        byte[] tour = BLOCK_TOURS.computeIfAbsent(key, k -> {
+            BoardGraph graph = BoardGraph.of(width, height);
+            TourResult result = new BacktrackingSolver().solve(graph, Math.max(localStart, 0), mode);
+            if (!result.isComplete()) {
+                // Remember the failure so that it is not searched again
+                return new byte[0];
+            }
+
+            byte[] block = new byte[width * height];
+            Arrays.fill(block, (byte) 0xFF);
+            MoveSequence path = result.getPath();
+            int edges = mode == TourMode.CLOSED ? path.size() : path.size() - 1;
+            for (int i = 0; i < edges; i++) {
+                int from = path.get(i);
+                int to = path.get((i + 1) % path.size());
+                int move = moveIndex(to % width - from % width, to / width - from / width);
+                addLink(block, from, move);
+                addLink(block, to, move ^ 4);
+            }
+            return block;
+        });
+        if (tour.length == 0) {
+            throw new IllegalStateException("No " + mode + " tour found for a " + width + "x" + height + " block");
+        }
+        return tour;
+    }
+
+    /**
+     * Joins the tours on both sides of a vertical border within one band of rows.
+     *
+     * @param borderX The first column right of the border
+     * @param top     The first row of the band
+     * @param height  The number of rows in the band
+     * @return true if an edge swap was found
+     */
+    private boolean joinAcrossColumn(int borderX, int top, int height) {
+        for (int y = top; y < top + height; y++) {
+            for (int x = borderX - 2; x < borderX; x++) {
+                if (trySwap(y * boardSize + x, borderX, -1, top, top + height)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Joins the tours on both sides of a horizontal border, trying one block at a time.
+     *
+     * @param borderY      The first row below the border
+     * @param columns      The column part sizes
+     * @param columnStarts The first column of each part
+     * @return true if an edge swap was found
+     */
+    private boolean joinAcrossRow(int borderY, int[] columns, int[] columnStarts) {
+        for (int col = 0; col < columns.length; col++) {
+            for (int y = borderY - 2; y < borderY; y++) {
+                for (int x = columnStarts[col]; x < columnStarts[col] + columns[col]; x++) {
+                    if (trySwap(y * boardSize + x, -1, borderY, 0, boardSize)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks for an edge swap between a square on the near side of a border and the far side.
+     * The far side is everything right of {@code borderX}, or everything below {@code borderY}
+     * within rows {@code [minY, maxY)}.
+     *
+     * @param a1      A square on the near side of the border
+     * @param borderX The first column of the far side, or -1 for a horizontal border
+     * @param borderY The first row of the far side, or -1 for a vertical border
+     * @param minY    The first row the far side may use
+     * @param maxY    The row after the last one the far side may use
+     * @return true if a swap was applied
+     */
+    private boolean trySwap(int a1, int borderX, int borderY, int minY, int maxY) {
+        int x1 = a1 % boardSize;
+        int y1 = a1 / boardSize;
+        for (int nibbleA = 0; nibbleA < 2; nibbleA++) {
+            int linkA = link(a1, nibbleA);
+            if (linkA == NONE) {
+                continue;
+            }
+            int x2 = x1 + MoveSet.KNIGHT.getDx(linkA);
+            int y2 = y1 + MoveSet.KNIGHT.getDy(linkA);
+
+            for (int move = 0; move < 8; move++) {
+                int bx1 = x1 + MoveSet.KNIGHT.getDx(move);
+                int by1 = y1 + MoveSet.KNIGHT.getDy(move);
+                if (!isFarSide(bx1, by1, borderX, borderY, minY, maxY)) {
+                    continue;
+                }
+                int b1 = by1 * boardSize + bx1;
+                for (int nibbleB = 0; nibbleB < 2; nibbleB++) {
+                    int linkB = link(b1, nibbleB);
+                    if (linkB == NONE) {
+                        continue;
+                    }
+                    int bx2 = bx1 + MoveSet.KNIGHT.getDx(linkB);
+                    int by2 = by1 + MoveSet.KNIGHT.getDy(linkB);
+                    int closing = moveIndex(bx2 - x2, by2 - y2);
+                    if (closing < 0 || !isFarSide(bx2, by2, borderX, borderY, minY, maxY)) {
+                        continue;
+                    }
+
+                    int a2 = y2 * boardSize + x2;
+                    int b2 = by2 * boardSize + bx2;
+                    removeLink(links, a1, linkA);
+                    removeLink(links, a2, linkA ^ 4);
+                    removeLink(links, b1, linkB);
+                    removeLink(links, b2, linkB ^ 4);
+                    addLink(links, a1, move);
+                    addLink(links, b1, move ^ 4);
+                    addLink(links, a2, closing);
+                    addLink(links, b2, closing ^ 4);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isFarSide(int x, int y, int borderX, int borderY, int minY, int maxY) {
+        if (x < 0 || x >= boardSize || y < minY || y >= maxY) {
+            return false;
+        }
+        return borderX >= 0 ? x >= borderX : y >= borderY;
+    }
+
+    /**
+     * Follows the tour links from the start square.
+     *
+     * @param start The packed start square
+     * @return The packed squares in visiting order
+     */
+    private int[] walk(int start) {
+        int[] tour = new int[links.length];
+        int previous = -1;
+        int current = start;
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = current;
+            int next = -1;
+            for (int nibble = 0; nibble < 2 && next < 0; nibble++) {
+                int move = link(current, nibble);
+                if (move != NONE) {
+                    int candidate = current + MoveSet.KNIGHT.getDy(move) * boardSize + MoveSet.KNIGHT.getDx(move);
+                    if (candidate != previous) {
+                        next = candidate;
+                    }
+                }
+            }
+            previous = current;
+            current = next;
+        }
+        return tour;
+    }
+
+    private int link(int square, int nibble) {
+        return (links[square] >>> (nibble * 4)) & 0xF;
+    }
+
+    private static void addLink(byte[] links, int square, int move) {
+        int value = links[square] & 0xFF;
+        if ((value & 0xF) == NONE) {
+            links[square] = (byte) ((value & 0xF0) | move);
+        } else {
+            links[square] = (byte) ((value & 0x0F) | (move << 4));
+        }
+    }
+
+    private static void removeLink(byte[] links, int square, int move) {
+        int value = links[square] & 0xFF;
+        if ((value & 0xF) == move) {
+            links[square] = (byte) (value | NONE);
+        } else {
+            links[square] = (byte) (value | (NONE << 4));
+        }
+    }
+
+    /**
+     * Finds the knight move with the given offset.
+     *
+     * @param dx The column offset
+     * @param dy The row offset
+     * @return The move index, or -1 if the offset is not a knight move
+     */
+    private static int moveIndex(int dx, int dy) {
+        for (int i = 0; i < MoveSet.KNIGHT.size(); i++) {
+            if (MoveSet.KNIGHT.getDx(i) == dx && MoveSet.KNIGHT.getDy(i) == dy) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
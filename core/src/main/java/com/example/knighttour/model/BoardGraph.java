@@ -0,0 +1,466 @@
+package com.example.knighttour.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precomputed move adjacency, for knight moves by default, for a board of a given size.
+ * Squares are packed as {@code y * width + x} and every square keeps its
+ * neighbours in a fixed-stride table, in the same order as the offsets of the
+ * graph's {@link MoveSet}. Graphs are immutable and shared per move set and board size:
+ * recently used graphs are kept in a cache bounded by the total size of their tables,
+ * and the least recently used ones are dropped once it is full.
+ * <p>
+ * The knight is the default piece, but a graph can be built for any leaper or
+ * combination of leapers. The stride is then the size of the move set, and every
+ * solver working on the graph runs unchanged.
+ * <p>
+ * A board may have blocked squares, which the knight can neither visit nor jump to.
+ * Blocked squares keep their packed index but have no neighbours and never appear
+ * as one, so solvers run on irregular boards unchanged. The colour counts, dead-end
+ * squares and connected components that {@link Feasibility} needs are computed once
+ * when the graph is built.
+ */
+public final class BoardGraph {
+    // Most table entries (neighbours and degrees) kept by the shared cache, about 64 MB
+    private static final long CACHE_ENTRIES = 16L * 1024 * 1024;
+    private static final Map<Key, BoardGraph> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cachedEntries;
+
+    // Largest array the JVM reliably allocates
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final int width;
+    private final int height;
+    private final MoveSet moveSet;
+    private final int stride;
+    private final BitBoard blocked;
+    private final int[] neighbours;
+    private final int[] degrees;
+
+    private final int openSquares;
+    private final int lightSquares;
+    private final int isolatedSquares;
+    private final int leafSquares;
+    private final int components;
+
+    private BoardGraph(int width, int height, MoveSet moveSet, BitBoard blocked) {
+        this.width = width;
+        this.height = height;
+        this.moveSet = moveSet;
+        this.stride = moveSet.size();
+        this.blocked = blocked;
+        long squares = (long) width * height;
+        long tableSize = squares * stride;
+        if (tableSize > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Board of " + squares + " squares is too large for a piece with " + stride + " moves");
+        }
+        this.neighbours = new int[(int) tableSize];
+        this.degrees = new int[(int) squares];
+
+        int open = 0;
+        int light = 0;
+        int isolated = 0;
+        int leaves = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int square = y * width + x;
+                if (isBlocked(square)) {
+                    continue;
+                }
+                int degree = 0;
+                for (int i = 0; i < stride; i++) {
+                    int nextX = x + moveSet.getDx(i);
+                    int nextY = y + moveSet.getDy(i);
+                    if (nextX >= 0 && nextX < width && nextY >= 0 && nextY < height
+                            && !isBlocked(nextY * width + nextX)) {
+                        neighbours[square * stride + degree++] = nextY * width + nextX;
+                    }
+                }
+                degrees[square] = degree;
+
+                open++;
+                if ((x + y) % 2 == 0) {
+                    light++;
+                }
+                if (degree == 0) {
+                    isolated++;
+                } else if (degree == 1) {
+                    leaves++;
+                }
+            }
+        }
+        this.openSquares = open;
+        this.lightSquares = light;
+        this.isolatedSquares = isolated;
+        this.leafSquares = leaves;
+        this.components = countComponents();
+    }
+
+    /**
+     * Counts the connected components of the open squares with a breadth-first search.
+     *
+     * @return The number of components
+     */
+    private int countComponents() {
+        BitBoard seen = new BitBoard(degrees.length);
+        int[] queue = new int[degrees.length];
+        int count = 0;
+        for (int square = 0; square < degrees.length; square++) {
+            if (seen.get(square) || isBlocked(square)) {
+                continue;
+            }
+            count++;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = square;
+            seen.set(square);
+            while (head < tail) {
+                int current = queue[head++];
+                for (int i = 0; i < degrees[current]; i++) {
+                    int next = neighbours[current * stride + i];
+                    if (!seen.get(next)) {
+                        seen.set(next);
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the shared graph for a square board.
+     *
+     * @param boardSize The size of the chess board
+     * @return The knight graph for a boardSize x boardSize board
+     */
+    public static BoardGraph forSize(int boardSize) {
+        return of(boardSize, boardSize);
+    }
+
+    /**
+     * Gets the shared graph for a rectangular board.
+     *
+     * @param width  The number of columns
+     * @param height The number of rows
+     * @return The knight graph for a width x height board
+     * @throws IllegalArgumentException if either dimension is not positive or the board is too large
+     */
+    public static BoardGraph of(int width, int height) {
+        return of(width, height, MoveSet.KNIGHT);
+    }
+
+    /**
+     * Gets the shared graph of a piece on a rectangular board.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param moveSet The moves of the piece
+     * @return The move graph for a width x height board
+     * @throws IllegalArgumentException if either dimension is not positive or the board is too large
+     */
+    public static BoardGraph of(int width, int height, MoveSet moveSet) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive");
+        }
+        Key key = new Key(width, height, moveSet);
+        synchronized (CACHE) {
+            BoardGraph graph = CACHE.get(key);
+            if (graph != null) {
+                return graph;
+            }
+        }
+
+        // Built outside the lock, so that a large board does not hold up lookups of others
+        BoardGraph graph = new BoardGraph(width, height, moveSet, null);
+        long entries = graph.neighbours.length + graph.degrees.length;
+        if (entries > CACHE_ENTRIES) {
+            return graph;
+        }
+        synchronized (CACHE) {
+            BoardGraph previous = CACHE.putIfAbsent(key, graph);
+            if (previous != null) {
+                return previous;
+            }
+            cachedEntries += entries;
+            Iterator<BoardGraph> eldest = CACHE.values().iterator();
+            while (cachedEntries > CACHE_ENTRIES && eldest.hasNext()) {
+                BoardGraph evicted = eldest.next();
+                cachedEntries -= evicted.neighbours.length + evicted.degrees.length;
+                eldest.remove();
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Gets the graph for a rectangular board with blocked squares.
+     * Graphs with blocked squares are not shared; the mask is copied.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param blocked The blocked squares, or null for none
+     * @return The knight graph for a width x height board without the blocked squares
+     * @throws IllegalArgumentException if either dimension is not positive, the board is too large or
+     *                                  the mask is too small
+     */
+    public static BoardGraph of(int width, int height, BitBoard blocked) {
+        return of(width, height, MoveSet.KNIGHT, blocked);
+    }
+
+    /**
+     * Gets the graph of a piece on a rectangular board with blocked squares.
+     * Graphs with blocked squares are not shared; the mask is copied.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param moveSet The moves of the piece
+     * @param blocked The blocked squares, or null for none
+     * @return The move graph for a width x height board without the blocked squares
+     * @throws IllegalArgumentException if either dimension is not positive, the board is too large or
+     *                                  the mask is too small
+     */
+    public static BoardGraph of(int width, int height, MoveSet moveSet, BitBoard blocked) {
+        if (blocked == null || blocked.cardinality() == 0) {
+            return of(width, height, moveSet);
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive");
+        }
+        if (blocked.size() < (long) width * height) {
+            throw new IllegalArgumentException("Blocked mask is smaller than the board");
+        }
+        return new BoardGraph(width, height, moveSet, new BitBoard(blocked));
+    }
+
+    /**
+     * Packs coordinates into a square index.
+     *
+     * @param x The x-coordinate (column)
+     * @param y The y-coordinate (row)
+     * @return The packed square index
+     */
+    public int squareOf(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Gets the x-coordinate (column) of a square.
+     *
+     * @param square The packed square index
+     * @return The x-coordinate
+     */
+    public int xOf(int square) {
+        return square % width;
+    }
+
+    /**
+     * Gets the y-coordinate (row) of a square.
+     *
+     * @param square The packed square index
+     * @return The y-coordinate
+     */
+    public int yOf(int square) {
+        return square / width;
+    }
+
+    /**
+     * Checks if coordinates are within the bounds of the board.
+     *
+     * @param x The x-coordinate (column) to check
+     * @param y The y-coordinate (row) to check
+     * @return true if the coordinates are within bounds, false otherwise
+     */
+    public boolean isWithinBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Checks whether a square is blocked.
+     *
+     * @param square The packed square index
+     * @return true if the knight may not visit the square
+     */
+    public boolean isBlocked(int square) {
+        return blocked != null && blocked.get(square);
+    }
+
+    /**
+     * Checks whether the board has any blocked squares.
+     *
+     * @return true if some squares are blocked
+     */
+    public boolean hasBlockedSquares() {
+        return blocked != null;
+    }
+
+    /**
+     * Gets the number of moves from a square on an empty board, 0 for a blocked square.
+     *
+     * @param square The packed square index
+     * @return The degree of the square
+     */
+    public int degree(int square) {
+        return degrees[square];
+    }
+
+    /**
+     * Gets one of the neighbours of a square.
+     *
+     * @param square The packed square index
+     * @param i      The neighbour slot, from 0 to {@code degree(square) - 1}
+     * @return The packed index of the neighbouring square
+     */
+    public int neighbour(int square, int i) {
+        return neighbours[square * stride + i];
+    }
+
+    /**
+     * Gets the fixed number of neighbour slots reserved per square, which is the
+     * number of moves of the piece.
+     *
+     * @return The stride of the neighbour table
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Gets the moves the graph was built from.
+     *
+     * @return The move set of the piece
+     */
+    public MoveSet getMoveSet() {
+        return moveSet;
+    }
+
+    /**
+     * Gets the neighbour table, with {@link #getStride()} slots per square.
+     * The array is shared and must not be modified.
+     *
+     * @return The neighbour table
+     */
+    int[] neighbourTable() {
+        return neighbours;
+    }
+
+    /**
+     * Gets the degree table, one entry per square.
+     * The array is shared and must not be modified.
+     *
+     * @return The degree table
+     */
+    int[] degreeTable() {
+        return degrees;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The board height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the number of squares on the board, blocked squares included.
+     * This is the range of packed square indices.
+     *
+     * @return The square count
+     */
+    public int getSquareCount() {
+        return degrees.length;
+    }
+
+    /**
+     * Gets the number of squares that are not blocked, which is the length of a full tour.
+     *
+     * @return The open square count
+     */
+    public int getOpenSquareCount() {
+        return openSquares;
+    }
+
+    /**
+     * Gets the number of open squares of the colour of the top-left corner.
+     *
+     * @return The light square count
+     */
+    int getLightSquareCount() {
+        return lightSquares;
+    }
+
+    /**
+     * Gets the number of open squares without any move.
+     *
+     * @return The isolated square count
+     */
+    int getIsolatedSquareCount() {
+        return isolatedSquares;
+    }
+
+    /**
+     * Gets the number of open squares with exactly one move, which can only
+     * be the first or last square of a tour.
+     *
+     * @return The dead-end square count
+     */
+    int getLeafSquareCount() {
+        return leafSquares;
+    }
+
+    /**
+     * Gets the number of connected components of the open squares.
+     *
+     * @return The component count
+     */
+    int getComponentCount() {
+        return components;
+    }
+
+    /**
+     * Identity of a shared graph: board dimensions and piece.
+     */
+    private static final class Key {
+        private final int width;
+        private final int height;
+        private final MoveSet moveSet;
+
+        Key(int width, int height, MoveSet moveSet) {
+            this.width = width;
+            this.height = height;
+            this.moveSet = moveSet;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width && height == other.height && moveSet.equals(other.moveSet);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(width, height, moveSet);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.knighttour.model;
+
+/**
+ * Solver that answers from a shared {@link TourCache} and only searches on a miss.
+ * The cache may be shared across threads; the delegate solver may not, so create one
+ * caching solver per thread.
+ */
+public class CachingSolver implements TourSolver {
+    private final TourCache cache;
+    private final TourSolver delegate;
+
+    /**
+     * Creates a caching solver.
+     *
+     * @param cache    The shared cache
+     * @param delegate The solver used on a cache miss
+     */
+    public CachingSolver(TourCache cache, TourSolver delegate) {
+        this.cache = cache;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public TourResult solve(BoardGraph graph, int start, TourMode mode) {
+        TourResult cached = cache.get(graph, start, mode);
+        if (cached != null) {
+            return cached;
+        }
+
+        TourResult result = delegate.solve(graph, start, mode);
+        cache.put(graph, result);
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.knighttour.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents a chess board for the Knight's Tour problem.
+ * This class maintains the state of the board and provides operations to manipulate it.
+ * Boards may be rectangular and may have blocked squares, which hold {@link #BLOCKED}.
+ */
+public class ChessBoard {
+    /** Value of a square the knight may not visit. */
+    public static final int BLOCKED = -1;
+
+    private final int width;
+    private final int height;
+    private final BitBoard blocked;
+    private final int[] board;
+
+    /**
+     * Creates a new chess board with the specified size.
+     *
+     * @param boardSize The size of the chess board (e.g., 8 for a standard 8x8 board)
+     */
+    public ChessBoard(int boardSize) {
+        this(boardSize, boardSize, null);
+    }
+
+    /**
+     * Creates a new rectangular chess board with blocked squares.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param blocked The blocked squares packed as {@code y * width + x}, or null for none
+     */
+    public ChessBoard(int width, int height, BitBoard blocked) {
+        this.width = width;
+        this.height = height;
+        this.blocked = blocked == null ? null : new BitBoard(blocked);
+        // Squares are stored row by row in a single flat array
+        this.board = new int[width * height];
+        reset();
+    }
+
+    /**
+     * Gets the value of a square on the board.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The value of the square (0 for unvisited, {@link #BLOCKED}, or move number)
+     */
+    public int getSquareValue(int row, int col) {
+        return board[row * width + col];
+    }
+
+    /**
+     * Sets the value of a square on the board.
+     *
+     * @param row   The row index
+     * @param col   The column index
+     * @param value The value to set (typically the move number)
+     */
+    public void setSquareValue(int row, int col, int value) {
+        board[row * width + col] = value;
+    }
+
+    /**
+     * Checks if coordinates are within the bounds of the board.
+     *
+     * @param x     The x-coordinate (column) to check
+     * @param y     The y-coordinate (row) to check
+     * @return true if the coordinates are within bounds, false otherwise
+     */
+    public boolean isWithinBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Checks whether a square is blocked.
+     *
+     * @param x The x-coordinate (column)
+     * @param y The y-coordinate (row)
+     * @return true if the knight may not visit the square
+     */
+    public boolean isBlocked(int x, int y) {
+        return blocked != null && blocked.get(y * width + x);
+    }
+
+    /**
+     * Checks whether the board has any blocked squares.
+     *
+     * @return true if some squares are blocked
+     */
+    public boolean hasBlockedSquares() {
+        return blocked != null;
+    }
+
+    /**
+     * Resets the board to its initial state (all open squares unvisited).
+     */
+    public void reset() {
+        Arrays.fill(board, 0);
+        if (blocked != null) {
+            for (int square = 0; square < board.length; square++) {
+                if (blocked.get(square)) {
+                    board[square] = BLOCKED;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the size of a square board.
+     *
+     * @return The board size (e.g., 8 for an 8x8 board); the width for rectangular boards
+     */
+    public int getBoardSize() {
+        return width;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The board height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the knight graph of this board, including its blocked squares.
+     *
+     * @return The knight graph
+     */
+    public BoardGraph getGraph() {
+        return getGraph(MoveSet.KNIGHT);
+    }
+
+    /**
+     * Gets the move graph of a piece on this board, including its blocked squares.
+     *
+     * @param moveSet The moves of the piece
+     * @return The move graph
+     */
+    public BoardGraph getGraph(MoveSet moveSet) {
+        return BoardGraph.of(width, height, moveSet, blocked);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.knighttour.model;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Outcome of an exhaustive tour enumeration from one start square.
+ */
+public class EnumerationResult {
+    private final TourMode mode;
+    private final int start;
+    private final long tours;
+    private final int symmetries;
+    private final boolean exhaustive;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final Map<String, Long> threadNodes;
+
+    /**
+     * Creates a new enumeration result.
+     *
+     * @param mode         The kind of tours enumerated
+     * @param start        The packed start square
+     * @param tours        The number of distinct tours found, symmetric images included
+     * @param symmetries   The number of board symmetries that fix the start square
+     * @param exhaustive   Whether the search finished rather than stopping at a limit
+     * @param nodes        The number of search nodes expanded
+     * @param elapsedNanos The wall time of the search in nanoseconds
+     * @param threadNodes  The number of nodes expanded by each worker thread
+     */
+    public EnumerationResult(TourMode mode, int start, long tours, int symmetries, boolean exhaustive,
+                             long nodes, long elapsedNanos, Map<String, Long> threadNodes) {
+        this.mode = mode;
+        this.start = start;
+        this.tours = tours;
+        this.symmetries = symmetries;
+        this.exhaustive = exhaustive;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.threadNodes = Collections.unmodifiableMap(threadNodes);
+    }
+
+    /**
+     * Gets the kind of tours enumerated.
+     *
+     * @return The tour mode
+     */
+    public TourMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the start square.
+     *
+     * @return The packed start square
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the number of distinct tours from the start square. Two tours are distinct
+     * if they visit the squares in a different order, so a closed tour and its reverse
+     * count separately.
+     *
+     * @return The tour count
+     */
+    public long getTourCount() {
+        return tours;
+    }
+
+    /**
+     * Gets the number of distinct closed tours through the start square when a tour
+     * and its reverse are counted once.
+     *
+     * @return Half the tour count for closed tours, the tour count for open tours
+     */
+    public long getCycleCount() {
+        return mode == TourMode.CLOSED ? tours / 2 : tours;
+    }
+
+    /**
+     * Gets the number of board symmetries that keep the start square in place.
+     * Only one tour per group of symmetric images is actually searched for.
+     *
+     * @return The number of symmetries, 1 if only the identity fixes the start
+     */
+    public int getSymmetryCount() {
+        return symmetries;
+    }
+
+    /**
+     * Checks whether every tour was enumerated.
+     *
+     * @return false if the search stopped at the tour limit or the node budget
+     */
+    public boolean isExhaustive() {
+        return exhaustive;
+    }
+
+    /**
+     * Gets the number of search nodes expanded.
+     *
+     * @return The node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the wall time of the search.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the search speed.
+     *
+     * @return The number of nodes expanded per second of wall time
+     */
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the number of nodes expanded by each worker thread.
+     *
+     * @return The node counts keyed by thread name
+     */
+    public Map<String, Long> getThreadNodes() {
+        return threadNodes;
+    }
+
+    /**
+     * Gets how evenly the work was spread over the threads.
+     *
+     * @return The largest per-thread node count divided by the mean, 1.0 for a perfect balance
+     */
+    public double getLoadImbalance() {
+        long max = 0;
+        long sum = 0;
+        for (long count : threadNodes.values()) {
+            max = Math.max(max, count);
+            sum += count;
+        }
+        return sum == 0 ? 1.0 : max * (double) threadNodes.size() / sum;
+    }
+}
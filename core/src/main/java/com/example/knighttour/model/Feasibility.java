@@ -0,0 +1,89 @@
+package com.example.knighttour.model;
+
+/**
+ * Quick structural checks that rule out a tour before any search is started.
+ * A result other than {@link #POSSIBLE} proves that no tour of the requested kind
+ * exists; {@link #POSSIBLE} only means that none of the checks found an obstruction.
+ * Every check takes constant time, using the statistics {@link BoardGraph} computes
+ * when it is built.
+ * <p>
+ * The colour check only applies to pieces whose every move changes colour, and the
+ * rectangle classification only to the knight; other pieces are checked for dead ends
+ * and connectivity.
+ */
+public enum Feasibility {
+    /** No obstruction was found. */
+    POSSIBLE,
+    /** The start square is blocked. */
+    START_BLOCKED,
+    /** The colour counts do not allow a tour: the piece always changes square colour. */
+    COLOUR_IMBALANCE,
+    /** Too many squares have fewer than two moves. */
+    DEAD_ENDS,
+    /** The open squares are not connected by the piece's moves. */
+    DISCONNECTED,
+    /** The board is a rectangle on which no tour of this kind exists. */
+    RECTANGLE;
+
+    /**
+     * Checks whether a tour of the requested kind can exist.
+     *
+     * @param graph The knight graph of the board
+     * @param start The packed start square
+     * @param mode  The requested kind of tour
+     * @return {@link #POSSIBLE}, or the reason why no tour exists
+     */
+    public static Feasibility check(BoardGraph graph, int start, TourMode mode) {
+        if (graph.isBlocked(start)) {
+            return START_BLOCKED;
+        }
+        boolean closed = mode == TourMode.CLOSED;
+        int open = graph.getOpenSquareCount();
+        if (open == 1) {
+            return closed ? DEAD_ENDS : POSSIBLE;
+        }
+
+        // A tour alternates colours, so it can only cover one more square of the start colour
+        if (graph.getMoveSet().alwaysChangesColour()) {
+            int light = graph.getLightSquareCount();
+            int dark = open - light;
+            boolean startLight = (graph.xOf(start) + graph.yOf(start)) % 2 == 0;
+            if (closed ? light != dark : Math.abs(light - dark) > 1 || (startLight ? dark > light : light > dark)) {
+                return COLOUR_IMBALANCE;
+            }
+        }
+
+        if (!graph.hasBlockedSquares() && graph.getMoveSet().equals(MoveSet.KNIGHT)) {
+            return rectangleHasTour(graph.getWidth(), graph.getHeight(), closed) ? POSSIBLE : RECTANGLE;
+        }
+
+        // A square with one move has to be an end of the tour; a closed tour has no ends
+        int leaves = graph.getLeafSquareCount();
+        if (graph.getIsolatedSquareCount() > 0 || (closed ? leaves > 0
+                : leaves > 2 || (leaves == 2 && graph.degree(start) != 1))) {
+            return DEAD_ENDS;
+        }
+        if (graph.getComponentCount() > 1) {
+            return DISCONNECTED;
+        }
+        return POSSIBLE;
+    }
+
+    /**
+     * Decides whether a full rectangle has a tour, by the classification of Schwenk (closed
+     * tours) and Conrad et al. (open tours).
+     *
+     * @param width  The number of columns
+     * @param height The number of rows
+     * @param closed Whether a closed tour is required
+     * @return true if at least one tour of the requested kind exists
+     */
+    private static boolean rectangleHasTour(int width, int height, boolean closed) {
+        int m = Math.min(width, height);
+        int n = Math.max(width, height);
+        if (closed) {
+            return (m % 2 == 0 || n % 2 == 0) && (m >= 5 || (m == 3 && n >= 10));
+        }
+        return m >= 5 || (m == 4 && n >= 5) || (m == 3 && (n == 4 || n >= 7));
+    }
+}
@@ -0,0 +1,570 @@
+package com.example.knighttour.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exact solver that treats a tour as a Hamiltonian path (or cycle) of the board graph and
+ * either finds one or proves that there is none.
+ * <p>
+ * The search extends the path from the start square in Warnsdorff order, like the
+ * heuristic solvers, but never gives up a branch until it is proven dead, so an exhausted
+ * search is a proof. After every move the remaining squares are checked against the
+ * constraints any completion has to meet, and the branch is cut as soon as one fails:
+ * <ul>
+ *     <li>every unvisited square is reachable from the knight through unvisited squares;</li>
+ *     <li>every unvisited square keeps two links to the rest of the path (unvisited
+ *     neighbours, the knight's square, and for closed tours the start), except the one
+ *     square that may end an open tour, which needs one;</li>
+ *     <li>for pieces that always change colour, the unvisited squares of each colour match
+ *     the colours the rest of the path alternates through, and the end square has the
+ *     colour the path will arrive on.</li>
+ * </ul>
+ * The end square can be fixed with {@link #solve(BoardGraph, int, int, TourMode)}; a closed
+ * tour behaves as an open one whose end must neighbour the start.
+ * <p>
+ * Every search stops at the time limit. With a portfolio of more than one strategy, the
+ * strategies run at the same time on the given executor: strategy 0 breaks ties between
+ * equally constrained moves by move order, strategy 1 prefers squares far from the
+ * centre, and further strategies break ties at random (strategy {@code i} seeded with
+ * {@code i}). Each strategy is complete on its own, so the first one that finds a tour or
+ * exhausts the search decides the outcome, and the others are cancelled.
+ * <p>
+ * After each search {@link #getOutcome()} tells whether a tour was found, proven not to
+ * exist, or the time ran out; results of proven searches are marked
+ * {@link TourResult#isImpossible() impossible}. The exact search is meant for small or
+ * irregular boards, where it settles starts that Warnsdorff fails on. Like the other
+ * solvers, an instance is not thread-safe, but several instances may share one executor.
+ */
+public class HamiltonianSolver implements TourSolver {
+    /** Default time limit of a search, in milliseconds. */
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 10_000;
+
+    // Nodes between checks of the time limit and cancellation
+    private static final int CHECK_MASK = 1023;
+
+    /**
+     * What a search established.
+     */
+    public enum Outcome {
+        /** A tour was found. */
+        FOUND,
+        /** The search was exhausted: no tour of the requested kind exists. */
+        NO_TOUR,
+        /** The time limit was reached, or the search was interrupted, before either was known. */
+        TIMED_OUT
+    }
+
+    private final SolverStats stats = new SolverStats();
+    private final int portfolio;
+    private final long timeLimitNanos;
+    private final Executor executor;
+
+    private Outcome outcome;
+    private int winningStrategy = -1;
+
+    /**
+     * Creates a solver that runs one strategy on the calling thread.
+     *
+     * @param timeLimitMillis The time limit of each search in milliseconds, or 0 for none
+     * @throws IllegalArgumentException if the time limit is negative
+     */
+    public HamiltonianSolver(long timeLimitMillis) {
+        this(1, timeLimitMillis, null);
+    }
+
+    /**
+     * Creates a solver that runs a portfolio of strategies.
+     *
+     * @param portfolio       The number of strategies run per search
+     * @param timeLimitMillis The time limit of each search in milliseconds, or 0 for none
+     * @param executor        Runs the strategies; may be null if the portfolio has one strategy,
+     *                        which then runs on the calling thread
+     * @throws IllegalArgumentException if the portfolio is not positive, the time limit is
+     *                                  negative, or a portfolio of several strategies has no executor
+     */
+    public HamiltonianSolver(int portfolio, long timeLimitMillis, Executor executor) {
+        if (portfolio <= 0) {
+            throw new IllegalArgumentException("Portfolio must have at least one strategy");
+        }
+        if (timeLimitMillis < 0) {
+            throw new IllegalArgumentException("Time limit must not be negative");
+        }
+        if (portfolio > 1 && executor == null) {
+            throw new IllegalArgumentException("A portfolio of several strategies needs an executor");
+        }
+        this.portfolio = portfolio;
+        this.timeLimitNanos = timeLimitMillis == 0
+                ? Long.MAX_VALUE / 2
+                : Math.min(TimeUnit.MILLISECONDS.toNanos(timeLimitMillis), Long.MAX_VALUE / 2);
+        this.executor = executor;
+    }
+
+    @Override
+    public TourResult solve(BoardGraph graph, int start, TourMode mode) {
+        return solve(graph, start, -1, mode);
+    }
+
+    /**
+     * Searches for a tour from a start square to a given end square. For a closed tour,
+     * the end is the last square before the knight returns to the start.
+     *
+     * @param graph The knight graph of the board
+     * @param start The packed index of the starting square
+     * @param end   The packed index of the last square, or -1 for any
+     * @param mode  Whether an open or a closed tour is required
+     * @return The result of the search; check {@link TourResult#isComplete()} for success
+     *         and {@link TourResult#isImpossible()} for a proof that there is no tour
+     * @throws IllegalArgumentException if the end square is off the board
+     */
+    public TourResult solve(BoardGraph graph, int start, int end, TourMode mode) {
+        if (end < -1 || end >= graph.getSquareCount()) {
+            throw new IllegalArgumentException("End square is outside the board");
+        }
+        stats.start();
+        outcome = null;
+        winningStrategy = -1;
+        long deadline = System.nanoTime() + timeLimitNanos;
+        MoveSequence startOnly = MoveSequence.wrap(graph.getWidth(), new int[]{start});
+        if (Feasibility.check(graph, start, mode) != Feasibility.POSSIBLE || !endFits(graph, start, end, mode)) {
+            outcome = Outcome.NO_TOUR;
+            return stats.finish("exact", graph, mode, startOnly, false, true);
+        }
+
+        Attempt decided = null;
+        Attempt longest = null;
+        if (portfolio == 1) {
+            decided = new Search(graph, start, end, mode, 0, deadline, null).run();
+            addMetrics(decided);
+            longest = decided;
+        } else {
+            AtomicBoolean stop = new AtomicBoolean();
+            CompletionService<Attempt> race = new ExecutorCompletionService<>(executor);
+            List<Future<Attempt>> futures = new ArrayList<>(portfolio);
+            try {
+                for (int i = 0; i < portfolio; i++) {
+                    int strategy = i;
+                    futures.add(race.submit(() ->
+                            new Search(graph, start, end, mode, strategy, deadline, stop).run()));
+                }
+                int finished = 0;
+                while (finished < portfolio && (decided == null || decided.outcome == Outcome.TIMED_OUT)) {
+                    Attempt attempt = race.take().get();
+                    finished++;
+                    addMetrics(attempt);
+                    if (decided == null || attempt.outcome != Outcome.TIMED_OUT) {
+                        decided = attempt;
+                    }
+                    if (longest == null || attempt.path.length > longest.path.length) {
+                        longest = attempt;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Exact search failed", e.getCause());
+            } finally {
+                stop.set(true);
+                for (Future<Attempt> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        outcome = decided == null ? Outcome.TIMED_OUT : decided.outcome;
+        if (outcome != Outcome.TIMED_OUT) {
+            winningStrategy = decided.strategy;
+        }
+        if (outcome == Outcome.FOUND) {
+            return stats.finish("exact", graph, mode, MoveSequence.wrap(graph.getWidth(), decided.path), true);
+        }
+        MoveSequence path = longest != null ? MoveSequence.wrap(graph.getWidth(), longest.path) : startOnly;
+        return stats.finish("exact", graph, mode, path, false, outcome == Outcome.NO_TOUR);
+    }
+
+    /**
+     * Checks the requested end square against the start before searching.
+     *
+     * @return false if the end square rules out every tour
+     */
+    private static boolean endFits(BoardGraph graph, int start, int end, TourMode mode) {
+        if (end < 0) {
+            return true;
+        }
+        if (graph.isBlocked(end)) {
+            return false;
+        }
+        if (mode == TourMode.CLOSED) {
+            return WarnsdorffSolver.isNeighbour(graph, end, start);
+        }
+        return end != start || graph.getOpenSquareCount() == 1;
+    }
+
+    /**
+     * Adds the counters of a finished strategy to this search.
+     */
+    private void addMetrics(Attempt attempt) {
+        stats.addNodes(attempt.nodes);
+        stats.addBacktracks(attempt.backtracks);
+        stats.addDegreeEvaluations(attempt.degreeEvaluations);
+        if (attempt.outcome != Outcome.FOUND) {
+            stats.recordDeadEnd(attempt.path.length);
+        }
+        if (executor != null && portfolio > 1) {
+            stats.addCpuNanos(Math.max(attempt.cpuNanos, 0));
+        }
+    }
+
+    /**
+     * Gets what the last search established.
+     *
+     * @return The outcome, or null before the first search
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the strategy that decided the last search.
+     *
+     * @return The strategy, from 0 to portfolio - 1, or -1 if the search was settled
+     *         before it started or ran out of time
+     */
+    public int getWinningStrategy() {
+        return winningStrategy;
+    }
+
+    /**
+     * Gets the number of strategies run per search.
+     *
+     * @return The portfolio size
+     */
+    public int getPortfolio() {
+        return portfolio;
+    }
+
+    /**
+     * The outcome and counters of one strategy.
+     */
+    private static final class Attempt {
+        private final int strategy;
+        private final Outcome outcome;
+        private final int[] path;
+        private final long nodes;
+        private final long backtracks;
+        private final long degreeEvaluations;
+        private final long cpuNanos;
+
+        private Attempt(int strategy, Outcome outcome, int[] path, long nodes, long backtracks,
+                        long degreeEvaluations, long cpuNanos) {
+            this.strategy = strategy;
+            this.outcome = outcome;
+            this.path = path;
+            this.nodes = nodes;
+            this.backtracks = backtracks;
+            this.degreeEvaluations = degreeEvaluations;
+            this.cpuNanos = cpuNanos;
+        }
+    }
+
+    /**
+     * The depth-first search of one strategy, with its own buffers.
+     */
+    private static final class Search {
+        private final BoardGraph graph;
+        private final int[] neighbours;
+        private final int stride;
+        private final int start;
+        private final int end;
+        private final boolean closed;
+        private final int strategy;
+        private final long deadline;
+        private final AtomicBoolean stop;
+        private final SplittableRandom random;
+        private final boolean alternatesColour;
+        private final int total;
+
+        private final boolean[] visited;
+        // Number of unvisited neighbours of every square
+        private final int[] freeDegree;
+        private final boolean[] light;
+        private final boolean[] nextToStart;
+        private final int[] tieKeys;
+        private final int[] path;
+        private final int[] candidates;
+        private final int[] candidateCount;
+        private final int[] cursor;
+        private final int[] sortDegrees;
+        private final int[] sortTies;
+        // Stamps of the squares next to the knight and of the squares reached by the search
+        private final int[] headStamp;
+        private final int[] reachStamp;
+        private final int[] queue;
+        private int stamp;
+        private int unvisitedLight;
+        // Longest path reached so far, kept for the result of a failed search
+        private int[] best;
+
+        private long nodes;
+        private long backtracks;
+        private long degreeEvaluations;
+
+        Search(BoardGraph graph, int start, int end, TourMode mode, int strategy, long deadline, AtomicBoolean stop) {
+            this.graph = graph;
+            this.neighbours = graph.neighbourTable();
+            this.stride = graph.getStride();
+            this.start = start;
+            this.end = end;
+            this.closed = mode == TourMode.CLOSED;
+            this.strategy = strategy;
+            this.deadline = deadline;
+            this.stop = stop;
+            this.random = strategy >= 2 ? new SplittableRandom(strategy) : null;
+            this.alternatesColour = graph.getMoveSet().alwaysChangesColour();
+            this.total = graph.getOpenSquareCount();
+
+            int squares = graph.getSquareCount();
+            this.visited = new boolean[squares];
+            this.freeDegree = Arrays.copyOf(graph.degreeTable(), squares);
+            this.light = new boolean[squares];
+            for (int square = 0; square < squares; square++) {
+                light[square] = (graph.xOf(square) + graph.yOf(square)) % 2 == 0;
+            }
+            this.nextToStart = new boolean[squares];
+            for (int i = 0; i < graph.degree(start); i++) {
+                nextToStart[graph.neighbour(start, i)] = true;
+            }
+            this.tieKeys = new int[squares];
+            if (strategy == 1) {
+                int width = graph.getWidth();
+                int height = graph.getHeight();
+                for (int square = 0; square < squares; square++) {
+                    int dx = 2 * graph.xOf(square) - (width - 1);
+                    int dy = 2 * graph.yOf(square) - (height - 1);
+                    tieKeys[square] = -(dx * dx + dy * dy);
+                }
+            }
+            this.path = new int[total];
+            this.candidates = new int[total * stride];
+            this.candidateCount = new int[total];
+            this.cursor = new int[total];
+            this.sortDegrees = new int[stride];
+            this.sortTies = new int[stride];
+            this.headStamp = new int[squares];
+            this.reachStamp = new int[squares];
+            this.queue = new int[squares];
+            this.unvisitedLight = graph.getLightSquareCount();
+        }
+
+        /**
+         * Runs the search to its end, the time limit or cancellation.
+         *
+         * @return The outcome, with the tour or the longest path reached
+         */
+        Attempt run() {
+            long startCpu = SolverStats.currentCpuNanos();
+            Outcome result = search();
+            long endCpu = SolverStats.currentCpuNanos();
+            long cpuNanos = startCpu < 0 || endCpu < 0 ? -1 : endCpu - startCpu;
+            return new Attempt(strategy, result, result == Outcome.FOUND ? path : best, nodes, backtracks,
+                    degreeEvaluations, cpuNanos);
+        }
+
+        /**
+         * Searches from the start square.
+         *
+         * @return The outcome
+         */
+        private Outcome search() {
+            int depth = 0;
+            path[0] = start;
+            visit(start);
+            best = new int[]{start};
+            if (total == 1) {
+                return Outcome.FOUND;
+            }
+            if (!consistent(0)) {
+                return Outcome.NO_TOUR;
+            }
+            generateCandidates(0);
+
+            while (true) {
+                if (cursor[depth] == candidateCount[depth]) {
+                    if (depth == 0) {
+                        return Outcome.NO_TOUR;
+                    }
+                    keepLongest(depth);
+                    unvisit(path[depth]);
+                    depth--;
+                    backtracks++;
+                    continue;
+                }
+
+                int next = candidates[depth * stride + cursor[depth]++];
+                nodes++;
+                if ((nodes & CHECK_MASK) == 0 && (System.nanoTime() - deadline > 0
+                        || (stop != null && stop.get()) || Thread.currentThread().isInterrupted())) {
+                    keepLongest(depth);
+                    return Outcome.TIMED_OUT;
+                }
+                depth++;
+                path[depth] = next;
+                visit(next);
+
+                if (depth + 1 == total) {
+                    if ((end < 0 || next == end) && (!closed || nextToStart[next])) {
+                        return Outcome.FOUND;
+                    }
+                } else if (consistent(depth)) {
+                    generateCandidates(depth);
+                    continue;
+                }
+                keepLongest(depth);
+                unvisit(next);
+                depth--;
+            }
+        }
+
+        /**
+         * Remembers the path up to a depth if it is the longest so far.
+         *
+         * @param depth The depth of the knight's square
+         */
+        private void keepLongest(int depth) {
+            if (depth + 1 > best.length) {
+                best = Arrays.copyOf(path, depth + 1);
+            }
+        }
+
+        /**
+         * Checks whether the path up to a depth can still be completed, as far as the
+         * degree, colour and connectivity constraints tell.
+         *
+         * @param depth The depth of the knight's square, before the last square
+         * @return false if no completion exists
+         */
+        private boolean consistent(int depth) {
+            int head = path[depth];
+            int remaining = total - depth - 1;
+
+            if (alternatesColour) {
+                // The rest of the path alternates colours, starting with the one the head is not
+                boolean headLight = light[head];
+                int nextColour = headLight ? remaining - unvisitedLight : unvisitedLight;
+                if (nextColour != (remaining + 1) / 2) {
+                    return false;
+                }
+                boolean lastLight = remaining % 2 == 1 ? !headLight : headLight;
+                if (end >= 0 && light[end] != lastLight) {
+                    return false;
+                }
+                if (closed && light[start] == lastLight) {
+                    return false;
+                }
+            }
+            // The end of a closed tour must be able to return to the start
+            if (closed && freeDegree[start] == 0) {
+                return false;
+            }
+
+            stamp++;
+            for (int i = head * stride, limit = i + graph.degree(head); i < limit; i++) {
+                headStamp[neighbours[i]] = stamp;
+            }
+
+            // Visit every square reachable from the knight and count the links each one keeps
+            int looseEnds = 0;
+            int tail = 0;
+            int reached = 0;
+            for (int i = head * stride, limit = i + graph.degree(head); i < limit; i++) {
+                int square = neighbours[i];
+                if (!visited[square] && reachStamp[square] != stamp) {
+                    reachStamp[square] = stamp;
+                    queue[tail++] = square;
+                }
+            }
+            while (reached < tail) {
+                int square = queue[reached++];
+                int links = freeDegree[square] + (headStamp[square] == stamp ? 1 : 0)
+                        + (closed && nextToStart[square] ? 1 : 0);
+                degreeEvaluations++;
+                if (links < 2) {
+                    // Only the last square of an open tour may have a single link
+                    if (links == 0 || closed || (end >= 0 && square != end) || ++looseEnds > 1) {
+                        return false;
+                    }
+                }
+                for (int i = square * stride, limit = i + graph.degree(square); i < limit; i++) {
+                    int next = neighbours[i];
+                    if (!visited[next] && reachStamp[next] != stamp) {
+                        reachStamp[next] = stamp;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            return reached == remaining;
+        }
+
+        /**
+         * Collects the unvisited neighbours of the knight, fewest onward moves first.
+         *
+         * @param depth The depth of the knight's square
+         */
+        private void generateCandidates(int depth) {
+            int head = path[depth];
+            int base = depth * stride;
+            boolean lastMove = depth + 2 == total;
+            int count = 0;
+            for (int i = head * stride, limit = i + graph.degree(head); i < limit; i++) {
+                int next = neighbours[i];
+                if (visited[next] || (next == end && !lastMove)) {
+                    continue;
+                }
+                int degree = freeDegree[next];
+                int tie = random != null ? random.nextInt() : tieKeys[next];
+                int j = count++;
+                while (j > 0 && (sortDegrees[j - 1] > degree
+                        || sortDegrees[j - 1] == degree && sortTies[j - 1] > tie)) {
+                    sortDegrees[j] = sortDegrees[j - 1];
+                    sortTies[j] = sortTies[j - 1];
+                    candidates[base + j] = candidates[base + j - 1];
+                    j--;
+                }
+                sortDegrees[j] = degree;
+                sortTies[j] = tie;
+                candidates[base + j] = next;
+            }
+            candidateCount[depth] = count;
+            cursor[depth] = 0;
+        }
+
+        private void visit(int square) {
+            visited[square] = true;
+            if (light[square]) {
+                unvisitedLight--;
+            }
+            for (int i = square * stride, limit = i + graph.degree(square); i < limit; i++) {
+                freeDegree[neighbours[i]]--;
+            }
+        }
+
+        private void unvisit(int square) {
+            visited[square] = false;
+            if (light[square]) {
+                unvisitedLight++;
+            }
+            for (int i = square * stride, limit = i + graph.degree(square); i < limit; i++) {
+                freeDegree[neighbours[i]]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.knighttour.model;
+
+/**
+ * Represents the Knight's Tour logic and algorithm.
+ * This class implements Warnsdorff's algorithm for solving the Knight's Tour problem.
+ * The piece is a knight unless another {@link MoveSet} is given.
+ * {@link #getMetrics()} counts the moves, candidate evaluations and ties of the
+ * current tour, and records where it got stuck.
+ */
+public class KnightTour {
+    private final MoveSet moveSet;
+    private final ChessBoard board;
+    private final MoveSequence moveHistory;
+    private final SolverStats stats = new SolverStats();
+    private final int defaultStart;
+    private final int openSquares;
+    private int currentX;
+    private int currentY;
+    private int moveCount;
+
+    /**
+     * Creates a new Knight's Tour with the specified board size.
+     *
+     * @param boardSize The size of the chess board (usually 8 for standard chess board)
+     */
+    public KnightTour(int boardSize) {
+        this(boardSize, boardSize, null);
+    }
+
+    /**
+     * Creates a new Knight's Tour on a rectangular board with blocked squares.
+     * The knight starts on the first open square of the top row that has one.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param blocked The blocked squares packed as {@code y * width + x}, or null for none
+     * @throws IllegalArgumentException if every square is blocked
+     */
+    public KnightTour(int width, int height, BitBoard blocked) {
+        this(width, height, blocked, MoveSet.KNIGHT);
+    }
+
+    /**
+     * Creates a new tour of any leaper on a rectangular board with blocked squares.
+     * The piece starts on the first open square of the top row that has one.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param blocked The blocked squares packed as {@code y * width + x}, or null for none
+     * @param moveSet The moves of the piece
+     * @throws IllegalArgumentException if every square is blocked
+     */
+    public KnightTour(int width, int height, BitBoard blocked, MoveSet moveSet) {
+        this.moveSet = moveSet;
+        this.board = new ChessBoard(width, height, blocked);
+        this.moveHistory = new MoveSequence(width, width * height);
+
+        // Initialize starting position (top-left corner, or the first open square)
+        int first = 0;
+        while (first < width * height && board.isBlocked(first % width, first / width)) {
+            first++;
+        }
+        if (first == width * height) {
+            throw new IllegalArgumentException("Every square is blocked");
+        }
+        this.defaultStart = first;
+        this.openSquares = width * height - (blocked == null ? 0 : blocked.cardinality());
+        this.currentX = first % width;
+        this.currentY = first / width;
+        this.moveCount = 1;
+
+        // Mark the starting position
+        board.setSquareValue(currentY, currentX, moveCount);
+        moveHistory.add(currentX, currentY);
+    }
+
+    /**
+     * Calculates and performs the next move using Warnsdorff's algorithm.
+     *
+     * @return true if a move was made, false if no valid moves exist
+     */
+    public boolean makeNextMove() {
+        // Find the next move using Warnsdorff's algorithm
+        int bestMove = -1;
+        int minDegree = Integer.MAX_VALUE;
+        boolean tied = false;
+
+        for (int i = 0; i < moveSet.size(); i++) {
+            int nextX = currentX + moveSet.getDx(i);
+            int nextY = currentY + moveSet.getDy(i);
+
+            if (isValidMove(nextX, nextY)) {
+                int degree = countAccessibleSquares(nextX, nextY);
+                stats.addDegreeEvaluations(1);
+                if (degree < minDegree) {
+                    minDegree = degree;
+                    bestMove = i;
+                    tied = false;
+                } else if (degree == minDegree) {
+                    tied = true;
+                }
+            }
+        }
+        if (tied) {
+            stats.addTies(1);
+        }
+
+        if (bestMove != -1) {
+            // Make the move
+            advanceTo(currentX + moveSet.getDx(bestMove), currentY + moveSet.getDy(bestMove));
+            return true;
+        }
+
+        if (!isComplete()) {
+            stats.recordDeadEnd(moveCount);
+        }
+        return false;
+    }
+
+    /**
+     * Performs a move chosen elsewhere, for example by a solver running on another thread.
+     *
+     * @param x The x-coordinate (column) to move to
+     * @param y The y-coordinate (row) to move to
+     * @throws IllegalArgumentException if the square is not an unvisited move of the piece away
+     */
+    public void moveTo(int x, int y) {
+        if (!moveSet.contains(x - currentX, y - currentY) || !isValidMove(x, y)) {
+            throw new IllegalArgumentException("Not a valid " + moveSet + " move: " + getChessNotation(x, y));
+        }
+        advanceTo(x, y);
+    }
+
+    /**
+     * Moves the knight and records the move.
+     *
+     * @param x The x-coordinate (column) to move to
+     * @param y The y-coordinate (row) to move to
+     */
+    private void advanceTo(int x, int y) {
+        currentX = x;
+        currentY = y;
+        moveCount++;
+        stats.addNodes(1);
+        board.setSquareValue(currentY, currentX, moveCount);
+        moveHistory.add(currentX, currentY);
+    }
+
+    /**
+     * Counts the number of valid moves possible from a given position.
+     * Used by Warnsdorff's algorithm to select the square with the fewest onward moves.
+     *
+     * @param x The x-coordinate to check
+     * @param y The y-coordinate to check
+     * @return The number of valid moves from the given position
+     */
+    private int countAccessibleSquares(int x, int y) {
+        int count = 0;
+        for (int i = 0; i < moveSet.size(); i++) {
+            int nextX = x + moveSet.getDx(i);
+            int nextY = y + moveSet.getDy(i);
+            if (isValidMove(nextX, nextY)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a move to the specified coordinates is valid.
+     * A move is valid if it's within the board boundaries and the square hasn't been visited.
+     *
+     * @param x The x-coordinate to check
+     * @param y The y-coordinate to check
+     * @return true if the move is valid, false otherwise
+     */
+    private boolean isValidMove(int x, int y) {
+        return board.isWithinBounds(x, y) && board.getSquareValue(y, x) == 0;
+    }
+
+    /**
+     * Converts array indices to chess notation (e.g., 0,0 -> a8, 7,7 -> h1).
+     *
+     * @param x The x-coordinate (column)
+     * @param y The y-coordinate (row)
+     * @return The chess notation as a string (e.g., "e4")
+     */
+    public String getChessNotation(int x, int y) {
+        int rank = board.getHeight() - y;
+        return fileName(x) + rank;
+    }
+
+    /**
+     * Names a column (file) with letters: a to z, then aa, ab and so on for wide boards.
+     *
+     * @param x The x-coordinate (column)
+     * @return The letters of the file
+     */
+    public static String fileName(int x) {
+        StringBuilder name = new StringBuilder();
+        for (int n = x + 1; n > 0; n = (n - 1) / 26) {
+            name.append((char) ('a' + (n - 1) % 26));
+        }
+        return name.reverse().toString();
+    }
+
+    /**
+     * Resets the knight's tour to the initial state.
+     */
+    public void reset() {
+        board.reset();
+        moveHistory.clear();
+        stats.reset();
+
+        currentX = defaultStart % board.getWidth();
+        currentY = defaultStart / board.getWidth();
+        moveCount = 1;
+
+        board.setSquareValue(currentY, currentX, moveCount);
+        moveHistory.add(currentX, currentY);
+    }
+
+    /**
+     * Sets the initial position of the knight and resets the tour.
+     *
+     * @param x The x-coordinate (column) of the initial position
+     * @param y The y-coordinate (row) of the initial position
+     * @throws IllegalArgumentException if the position is invalid
+     */
+    public void setInitialPosition(int x, int y) {
+        if (!board.isWithinBounds(x, y)) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        if (board.isBlocked(x, y)) {
+            throw new IllegalArgumentException("Position is blocked");
+        }
+
+        // Reset the board and move history
+        board.reset();
+        moveHistory.clear();
+        stats.reset();
+
+        // Set the new initial position
+        currentX = x;
+        currentY = y;
+        moveCount = 1;
+
+        // Mark the starting position
+        board.setSquareValue(currentY, currentX, moveCount);
+        moveHistory.add(currentX, currentY);
+    }
+
+    // Getters
+
+    /**
+     * Gets the chess board.
+     *
+     * @return The chess board
+     */
+    public ChessBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Checks whether every open square has been visited.
+     *
+     * @return true if the tour is complete
+     */
+    public boolean isComplete() {
+        return moveCount == openSquares;
+    }
+
+    /**
+     * Gets the counters of the current tour. The times are not measured, since the tour
+     * is played one move at a time.
+     *
+     * @return The live metrics, reset with the tour
+     */
+    public SolverMetrics getMetrics() {
+        return stats;
+    }
+
+    /**
+     * Gets the moves of the piece.
+     *
+     * @return The move set
+     */
+    public MoveSet getMoveSet() {
+        return moveSet;
+    }
+
+    /**
+     * Gets the move graph of the board, including its blocked squares.
+     *
+     * @return The graph of the piece's moves
+     */
+    public BoardGraph getGraph() {
+        return board.getGraph(moveSet);
+    }
+
+    /**
+     * Gets the move history.
+     *
+     * @return The visited squares in order, packed as {@code y * width + x}
+     */
+    public MoveSequence getMoveHistory() {
+        return moveHistory;
+    }
+
+    /**
+     * Gets the current x-coordinate.
+     *
+     * @return The current x-coordinate
+     */
+    public int getCurrentX() {
+        return currentX;
+    }
+
+    /**
+     * Gets the current y-coordinate.
+     *
+     * @return The current y-coordinate
+     */
+    public int getCurrentY() {
+        return currentY;
+    }
+
+    /**
+     * Gets the current move count.
+     *
+     * @return The current move count
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
\ No newline at end of file
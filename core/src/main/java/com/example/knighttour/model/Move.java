@@ -0,0 +1,57 @@
+package com.example.knighttour.model;
+
+/**
+ * A single step of a tour: the position of the knight after a given number of moves.
+ */
+public class Move {
+    private final int index;
+    private final int x;
+    private final int y;
+
+    /**
+     * Creates a new move.
+     *
+     * @param index The position of the move in the tour, 0 for the start square
+     * @param x     The x-coordinate (column)
+     * @param y     The y-coordinate (row)
+     */
+    public Move(int index, int x, int y) {
+        this.index = index;
+        this.x = x;
+        this.y = y;
+    }
+
+    // Getters
+
+    /**
+     * Gets the position of the move in the tour.
+     *
+     * @return The move index, 0 for the start square
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the x-coordinate (column).
+     *
+     * @return The x-coordinate
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate (row).
+     *
+     * @return The y-coordinate
+     */
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        return index + ":(" + x + "," + y + ")";
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.knighttour.model;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Ordered sequence of knight positions stored as packed square indices
+ * ({@code y * width + x}) in a single {@code int[]}.
+ * Appending is amortised O(1) and never allocates per move; undo and truncation
+ * only move the end marker. Read access goes through primitive views so that no
+ * boxing or copying is needed.
+ */
+public class MoveSequence {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int width;
+    private int[] squares;
+    private int size;
+
+    /**
+     * Creates an empty sequence for a board of the given width.
+     *
+     * @param width The number of columns of the board
+     */
+    public MoveSequence(int width) {
+        this(width, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty sequence with room for the given number of moves.
+     * Pre-sizing to the number of squares avoids any growth during a tour.
+     *
+     * @param width    The number of columns of the board
+     * @param capacity The initial capacity
+     */
+    public MoveSequence(int width, int capacity) {
+        this.width = width;
+        this.squares = new int[Math.max(capacity, 1)];
+    }
+
+    private MoveSequence(int width, int[] squares, int size) {
+        this.width = width;
+        this.squares = squares;
+        this.size = size;
+    }
+
+    /**
+     * Wraps an array of packed squares without copying it.
+     * The sequence takes ownership of the array.
+     *
+     * @param width   The number of columns of the board
+     * @param squares The packed square indices
+     * @return A sequence holding every element of the array
+     */
+    public static MoveSequence wrap(int width, int[] squares) {
+        return new MoveSequence(width, squares, squares.length);
+    }
+
+    /**
+     * Appends a square to the end of the sequence.
+     *
+     * @param square The packed square index
+     */
+    public void add(int square) {
+        if (size == squares.length) {
+            squares = Arrays.copyOf(squares, squares.length + (squares.length >> 1) + 1);
+        }
+        squares[size++] = square;
+    }
+
+    /**
+     * Appends a position to the end of the sequence.
+     *
+     * @param x The x-coordinate (column)
+     * @param y The y-coordinate (row)
+     */
+    public void add(int x, int y) {
+        add(y * width + x);
+    }
+
+    /**
+     * Gets the packed square at a position in the sequence.
+     *
+     * @param index The position in the sequence
+     * @return The packed square index
+     * @throws IndexOutOfBoundsException if the index is not below {@link #size()}
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return squares[index];
+    }
+
+    /**
+     * Gets the x-coordinate (column) at a position in the sequence.
+     *
+     * @param index The position in the sequence
+     * @return The x-coordinate
+     */
+    public int getX(int index) {
+        return get(index) % width;
+    }
+
+    /**
+     * Gets the y-coordinate (row) at a position in the sequence.
+     *
+     * @param index The position in the sequence
+     * @return The y-coordinate
+     */
+    public int getY(int index) {
+        return get(index) / width;
+    }
+
+    /**
+     * Gets the last square of the sequence.
+     *
+     * @return The packed square index
+     * @throws NoSuchElementException if the sequence is empty
+     */
+    public int last() {
+        if (size == 0) {
+            throw new NoSuchElementException("Move sequence is empty");
+        }
+        return squares[size - 1];
+    }
+
+    /**
+     * Removes and returns the last square in O(1).
+     *
+     * @return The packed square index that was removed
+     * @throws NoSuchElementException if the sequence is empty
+     */
+    public int removeLast() {
+        int square = last();
+        size--;
+        return square;
+    }
+
+    /**
+     * Shortens the sequence in O(1), keeping the first {@code newSize} squares.
+     *
+     * @param newSize The new size
+     * @throws IllegalArgumentException if the new size is negative or larger than the current size
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IllegalArgumentException("Cannot truncate a sequence of " + size + " to " + newSize);
+        }
+        size = newSize;
+    }
+
+    /**
+     * Removes every square without releasing the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of squares in the sequence.
+     *
+     * @return The size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the sequence is empty.
+     *
+     * @return true if there are no squares
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of columns of the board the squares are packed for.
+     *
+     * @return The board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Calls an action for every square in order.
+     *
+     * @param action The action to call with each packed square index
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(squares[i]);
+        }
+    }
+
+    /**
+     * Gets a primitive iterator over the squares.
+     *
+     * @return An iterator that does not box
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return squares[next++];
+            }
+        };
+    }
+
+    /**
+     * Gets a stream over the squares, backed by the sequence.
+     *
+     * @return A primitive stream of packed square indices
+     */
+    public IntStream stream() {
+        return Arrays.stream(squares, 0, size);
+    }
+
+    /**
+     * Gets a read-only view of the squares without copying them.
+     * The view reflects later changes to existing elements but not growth.
+     *
+     * @return A read-only buffer over the first {@link #size()} squares
+     */
+    public IntBuffer asReadOnlyBuffer() {
+        return IntBuffer.wrap(squares, 0, size).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the squares into a new array.
+     *
+     * @return The packed square indices
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(squares, size);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.knighttour.model;
+
+import java.util.Arrays;
+
+/**
+ * The moves of a leaper piece, as (x, y) offsets.
+ * <p>
+ * An (a, b)-leaper jumps a squares along one axis and b along the other, in any of the
+ * up to eight directions; the knight is the (1, 2)-leaper. Move sets can be combined,
+ * so a piece may for example move as a knight or as a camel. Every move set is built
+ * from whole leapers and is therefore unchanged by rotating or reflecting the board,
+ * which {@link TourCache} and {@link TourEnumerator} rely on.
+ * <p>
+ * Move sets are immutable; {@link BoardGraph} precomputes and shares one neighbour
+ * table per move set and board size.
+ */
+public final class MoveSet {
+    /** The knight, a (1, 2)-leaper. */
+    public static final MoveSet KNIGHT = leaper(1, 2);
+    /** The camel, a (1, 3)-leaper. It never changes square colour. */
+    public static final MoveSet CAMEL = leaper(1, 3);
+    /** The zebra, a (2, 3)-leaper. */
+    public static final MoveSet ZEBRA = leaper(2, 3);
+    /** The giraffe, a (1, 4)-leaper. */
+    public static final MoveSet GIRAFFE = leaper(1, 4);
+
+    private final String name;
+    private final int[] xMoves;
+    private final int[] yMoves;
+
+    private MoveSet(String name, int[] xMoves, int[] yMoves) {
+        this.name = name;
+        this.xMoves = xMoves;
+        this.yMoves = yMoves;
+    }
+
+    /**
+     * Creates the move set of an (a, b)-leaper. The order of the moves is the same for
+     * every leaper; for the knight it is the classic order starting at (2, 1).
+     *
+     * @param a The distance along one axis
+     * @param b The distance along the other axis
+     * @return The leaper's moves
+     * @throws IllegalArgumentException if a distance is negative or both are zero
+     */
+    public static MoveSet leaper(int a, int b) {
+        if (a < 0 || b < 0 || a + b == 0) {
+            throw new IllegalArgumentException("Leaper distances must be non-negative and not both zero");
+        }
+        int small = Math.min(a, b);
+        int large = Math.max(a, b);
+        int[][] offsets = {
+                {large, small}, {small, large}, {-small, large}, {-large, small},
+                {-large, -small}, {-small, -large}, {small, -large}, {large, -small}
+        };
+
+        int[] xMoves = new int[offsets.length];
+        int[] yMoves = new int[offsets.length];
+        int count = 0;
+        for (int[] offset : offsets) {
+            if (indexOf(xMoves, yMoves, count, offset[0], offset[1]) < 0) {
+                xMoves[count] = offset[0];
+                yMoves[count] = offset[1];
+                count++;
+            }
+        }
+        return new MoveSet(nameOf(small, large), Arrays.copyOf(xMoves, count), Arrays.copyOf(yMoves, count));
+    }
+
+    /**
+     * Names a leaper, using the traditional name where there is one.
+     *
+     * @param small The shorter distance
+     * @param large The longer distance
+     * @return The name of the leaper
+     */
+    private static String nameOf(int small, int large) {
+        if (small == 1 && large == 2) {
+            return "knight";
+        } else if (small == 1 && large == 3) {
+            return "camel";
+        } else if (small == 2 && large == 3) {
+            return "zebra";
+        } else if (small == 1 && large == 4) {
+            return "giraffe";
+        }
+        return "(" + small + "," + large + ")";
+    }
+
+    /**
+     * Parses a move set such as {@code knight}, {@code 2,3} or {@code knight+camel}.
+     * The named pieces are knight, camel, zebra and giraffe.
+     *
+     * @param text The pieces or leaper distances, separated by {@code +}
+     * @return The combined move set
+     * @throws IllegalArgumentException if a piece is unknown or malformed
+     */
+    public static MoveSet parse(String text) {
+        MoveSet result = null;
+        for (String part : text.split("\\+")) {
+            MoveSet piece;
+            switch (part.trim().toLowerCase()) {
+                case "knight": piece = KNIGHT; break;
+                case "camel": piece = CAMEL; break;
+                case "zebra": piece = ZEBRA; break;
+                case "giraffe": piece = GIRAFFE; break;
+                default:
+                    int comma = part.indexOf(',');
+                    if (comma < 0) {
+                        throw new IllegalArgumentException("Unknown piece: " + part);
+                    }
+                    piece = leaper(Integer.parseInt(part.substring(0, comma).trim()),
+                            Integer.parseInt(part.substring(comma + 1).trim()));
+            }
+            result = result == null ? piece : result.plus(piece);
+        }
+        return result;
+    }
+
+    /**
+     * Combines this move set with another one. Moves of both sets are kept once each,
+     * those of this set first.
+     *
+     * @param other The moves to add
+     * @return A piece that may move like either
+     */
+    public MoveSet plus(MoveSet other) {
+        int[] xMoves = Arrays.copyOf(this.xMoves, this.xMoves.length + other.xMoves.length);
+        int[] yMoves = Arrays.copyOf(this.yMoves, xMoves.length);
+        int count = this.xMoves.length;
+        for (int i = 0; i < other.xMoves.length; i++) {
+            if (indexOf(xMoves, yMoves, count, other.xMoves[i], other.yMoves[i]) < 0) {
+                xMoves[count] = other.xMoves[i];
+                yMoves[count] = other.yMoves[i];
+                count++;
+            }
+        }
+        if (count == this.xMoves.length) {
+            return this;
+        }
+        return new MoveSet(name + "+" + other.name, Arrays.copyOf(xMoves, count), Arrays.copyOf(yMoves, count));
+    }
+
+    /**
+     * Finds a move among the first entries of an offset table.
+     *
+     * @return The index of the move, or -1 if it is not there
+     */
+    private static int indexOf(int[] xMoves, int[] yMoves, int count, int dx, int dy) {
+        for (int i = 0; i < count; i++) {
+            if (xMoves[i] == dx && yMoves[i] == dy) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of moves, which is the most neighbours a square can have.
+     *
+     * @return The move count
+     */
+    public int size() {
+        return xMoves.length;
+    }
+
+    /**
+     * Gets the x offset (columns) of a move.
+     *
+     * @param i The move index, from 0 to {@code size() - 1}
+     * @return The x offset
+     */
+    public int getDx(int i) {
+        return xMoves[i];
+    }
+
+    /**
+     * Gets the y offset (rows) of a move.
+     *
+     * @param i The move index, from 0 to {@code size() - 1}
+     * @return The y offset
+     */
+    public int getDy(int i) {
+        return yMoves[i];
+    }
+
+    /**
+     * Checks whether an offset is one of the moves.
+     *
+     * @param dx The x offset
+     * @param dy The y offset
+     * @return true if the piece can make the move
+     */
+    public boolean contains(int dx, int dy) {
+        return indexOf(xMoves, yMoves, xMoves.length, dx, dy) >= 0;
+    }
+
+    /**
+     * Checks whether every move lands on a square of the other colour, as a knight's does.
+     * Tours of such pieces alternate colours, which {@link Feasibility} uses.
+     *
+     * @return true if every move changes the square colour
+     */
+    public boolean alwaysChangesColour() {
+        for (int i = 0; i < xMoves.length; i++) {
+            if ((xMoves[i] + yMoves[i]) % 2 == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MoveSet)) {
+            return false;
+        }
+        MoveSet other = (MoveSet) o;
+        return Arrays.equals(xMoves, other.xMoves) && Arrays.equals(yMoves, other.yMoves);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(xMoves) + Arrays.hashCode(yMoves);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.knighttour.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Warnsdorff solver that races several randomised attempts against each other.
+ * <p>
+ * Plain Warnsdorff breaks ties by move order, so a start square it fails on fails every
+ * time. This solver runs a number of attempts that break ties at random instead, attempt
+ * {@code i} seeded with {@code seed + i}, on the given executor. The first attempt that
+ * finds a tour of the requested kind wins and the others are cancelled. A closed tour is
+ * found when an attempt happens to end a knight's move away from its start.
+ * <p>
+ * After each search {@link #getWinningSeed()} and {@link #getAttemptsRun()} tell which
+ * attempt won and how many attempts finished before it. The metrics of the result add
+ * up the attempts that finished, including their CPU time on the executor's threads.
+ * Like the other solvers, an instance is not thread-safe, but several instances may
+ * share one executor.
+ */
+public class RacingSolver implements TourSolver {
+    // Moves between checks whether the attempt was cancelled
+    private static final int CANCEL_CHECK_MASK = 1023;
+
+    private final SolverStats stats = new SolverStats();
+    private final int attempts;
+    private final long seed;
+    private final Executor executor;
+
+    private int winningAttempt = -1;
+    private int attemptsRun;
+
+    /**
+     * Creates a racing solver.
+     *
+     * @param attempts The number of attempts per search
+     * @param seed     The seed of the first attempt; attempt i uses seed + i
+     * @param executor Runs the attempts; its threads decide how many run at once
+     * @throws IllegalArgumentException if attempts is not positive
+     */
+    public RacingSolver(int attempts, long seed, Executor executor) {
+        if (attempts <= 0) {
+            throw new IllegalArgumentException("Number of attempts must be positive");
+        }
+        this.attempts = attempts;
+        this.seed = seed;
+        this.executor = executor;
+    }
+
+    @Override
+    public TourResult solve(BoardGraph graph, int start, TourMode mode) {
+        stats.start();
+        winningAttempt = -1;
+        attemptsRun = 0;
+        if (Feasibility.check(graph, start, mode) != Feasibility.POSSIBLE) {
+            return stats.finish("racing", graph, mode, MoveSequence.wrap(graph.getWidth(), new int[]{start}), false,
+                    true);
+        }
+
+        CompletionService<Attempt> race = new ExecutorCompletionService<>(executor);
+        List<Future<Attempt>> futures = new ArrayList<>(attempts);
+        Attempt winner = null;
+        Attempt longest = null;
+        try {
+            for (int i = 0; i < attempts; i++) {
+                int index = i;
+                futures.add(race.submit(() -> Attempt.run(graph, start, mode, index, seed + index)));
+            }
+            while (attemptsRun < attempts && winner == null) {
+                Attempt attempt = race.take().get();
+                attemptsRun++;
+                if (attempt == null) {
+                    // Interrupted by someone else, for example an executor shutting down
+                    continue;
+                }
+                stats.addNodes(attempt.path.length - 1L);
+                stats.addDegreeEvaluations(attempt.degreeEvaluations);
+                stats.addTies(attempt.ties);
+                stats.addCpuNanos(Math.max(attempt.cpuNanos, 0));
+                if (attempt.complete) {
+                    winner = attempt;
+                } else {
+                    stats.recordDeadEnd(attempt.path.length);
+                    if (longest == null || attempt.path.length > longest.path.length) {
+                        longest = attempt;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tour attempt failed", e.getCause());
+        } finally {
+            for (Future<Attempt> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        if (winner != null) {
+            winningAttempt = winner.index;
+            return stats.finish("racing", graph, mode, MoveSequence.wrap(graph.getWidth(), winner.path), true);
+        }
+        int[] path = longest != null ? longest.path : new int[]{start};
+        return stats.finish("racing", graph, mode, MoveSequence.wrap(graph.getWidth(), path), false);
+    }
+
+    /**
+     * Gets the index of the attempt that found the tour in the last search.
+     *
+     * @return The winning attempt, from 0 to attempts - 1, or -1 if no attempt succeeded
+     */
+    public int getWinningAttempt() {
+        return winningAttempt;
+    }
+
+    /**
+     * Gets the seed of the attempt that found the tour in the last search.
+     * Rerunning a {@link BitboardTour} with this seed reproduces the tour.
+     *
+     * @return The winning seed
+     * @throws IllegalStateException if no attempt succeeded
+     */
+    public long getWinningSeed() {
+        if (winningAttempt < 0) {
+            throw new IllegalStateException("No attempt found a tour");
+        }
+        return seed + winningAttempt;
+    }
+
+    /**
+     * Gets the number of attempts that finished in the last search, the winner included.
+     * Attempts cancelled once a tour was found are not counted.
+     *
+     * @return The number of attempts run
+     */
+    public int getAttemptsRun() {
+        return attemptsRun;
+    }
+
+    /**
+     * Gets the number of attempts started per search.
+     *
+     * @return The attempt count
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The outcome of one randomised Warnsdorff attempt.
+     */
+    private static final class Attempt {
+        private final int index;
+        private final int[] path;
+        private final boolean complete;
+        private final long degreeEvaluations;
+        private final long ties;
+        private final long cpuNanos;
+
+        private Attempt(int index, int[] path, boolean complete, long degreeEvaluations, long ties, long cpuNanos) {
+            this.index = index;
+            this.path = path;
+            this.complete = complete;
+            this.degreeEvaluations = degreeEvaluations;
+            this.ties = ties;
+            this.cpuNanos = cpuNanos;
+        }
+
+        /**
+         * Runs one attempt on the current thread.
+         *
+         * @param graph The knight graph of the board
+         * @param start The packed index of the starting square
+         * @param mode  Whether an open or a closed tour is required
+         * @param index The index of the attempt
+         * @param seed  The seed of the tie-breaks
+         * @return The outcome, or null if the attempt was cancelled
+         */
+        static Attempt run(BoardGraph graph, int start, TourMode mode, int index, long seed) {
+            long startCpu = SolverStats.currentCpuNanos();
+            BitboardTour tour = new BitboardTour(graph);
+            tour.setRandom(new SplittableRandom(seed));
+            tour.start(start);
+            while (tour.makeNextMove()) {
+                if ((tour.getMoveCount() & CANCEL_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+            }
+
+            boolean complete = tour.isComplete()
+                    && (mode == TourMode.OPEN || WarnsdorffSolver.isNeighbour(graph, tour.getCurrentSquare(), start));
+            long endCpu = SolverStats.currentCpuNanos();
+            long cpuNanos = startCpu < 0 || endCpu < 0 ? -1 : endCpu - startCpu;
+            return new Attempt(index, tour.getPath().toArray(), complete, tour.getDegreeEvaluations(),
+                    tour.getTies(), cpuNanos);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.knighttour.model;
+
+/**
+ * Read-only view of the counters and timers of one or more tour searches.
+ * Solvers attach a snapshot to every {@link TourResult}, {@link KnightTour} exposes
+ * live counters of the tour being played, and {@link SolverTotals} sums many runs.
+ */
+public interface SolverMetrics {
+
+    /**
+     * Gets the number of moves made, including moves later taken back.
+     *
+     * @return The node count
+     */
+    long getNodes();
+
+    /**
+     * Gets the number of candidate squares whose onward degree was looked at.
+     *
+     * @return The degree evaluation count
+     */
+    long getDegreeEvaluations();
+
+    /**
+     * Gets the number of move choices where more than one candidate had the fewest onward moves.
+     *
+     * @return The tie count
+     */
+    long getTies();
+
+    /**
+     * Gets the number of moves taken back by a backtracking search.
+     *
+     * @return The backtrack count
+     */
+    long getBacktracks();
+
+    /**
+     * Gets the number of squares on the longest path that got stuck.
+     *
+     * @return The dead-end depth, or 0 if the piece never got stuck
+     */
+    int getDeadEndDepth();
+
+    /**
+     * Gets the wall time of the search.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    long getWallNanos();
+
+    /**
+     * Gets the CPU time the searching thread used.
+     *
+     * @return The CPU time in nanoseconds, or -1 if the JVM cannot measure it
+     */
+    long getCpuNanos();
+}
@@ -0,0 +1,227 @@
+package com.example.knighttour.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Mutable counters and timers of a single search, kept by the solver that runs it.
+ * Counting is a plain field update, so the solvers can count inside their hot loops;
+ * timers and the {@link TourEvent} are only touched once at the start and end of a run.
+ * The event is only created once the flight recorder has been started, since the first
+ * event otherwise registers the recorder's metadata, which costs hundreds of
+ * milliseconds in a short-lived JVM.
+ * Not thread-safe: every solver owns its own instance.
+ */
+final class SolverStats implements SolverMetrics {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private long nodes;
+    private long degreeEvaluations;
+    private long ties;
+    private long backtracks;
+    private int deadEndDepth;
+    private long wallNanos;
+    private long cpuNanos = -1;
+
+    private long startWall;
+    private long startCpu;
+    private long otherCpuNanos;
+    private TourEvent event;
+
+    /**
+     * Clears every counter and starts the timers.
+     */
+    void start() {
+        reset();
+        if (FlightRecorder.isInitialized()) {
+            event = new TourEvent();
+            event.begin();
+        }
+        startWall = System.nanoTime();
+        startCpu = currentCpuNanos();
+    }
+
+    /**
+     * Clears every counter without starting the timers.
+     */
+    void reset() {
+        nodes = 0;
+        degreeEvaluations = 0;
+        ties = 0;
+        backtracks = 0;
+        deadEndDepth = 0;
+        wallNanos = 0;
+        cpuNanos = -1;
+        otherCpuNanos = 0;
+        event = null;
+    }
+
+    /**
+     * Stops the timers, commits the flight recorder event and builds the result of the run.
+     *
+     * @param solver   The name of the solver, for the event
+     * @param graph    The graph the search ran on
+     * @param mode     The requested kind of tour
+     * @param path     The visited squares in order
+     * @param complete Whether the path is a tour of the requested kind
+     * @return The result, with a snapshot of these counters
+     */
+    TourResult finish(String solver, BoardGraph graph, TourMode mode, MoveSequence path, boolean complete) {
+        return finish(solver, graph, mode, path, complete, false);
+    }
+
+    /**
+     * Stops the timers, commits the flight recorder event and builds the result of the run.
+     *
+     * @param solver     The name of the solver, for the event
+     * @param graph      The graph the search ran on
+     * @param mode       The requested kind of tour
+     * @param path       The visited squares in order
+     * @param complete   Whether the path is a tour of the requested kind
+     * @param impossible Whether the search proved that no tour of the requested kind exists
+     * @return The result, with a snapshot of these counters
+     */
+    TourResult finish(String solver, BoardGraph graph, TourMode mode, MoveSequence path, boolean complete,
+                      boolean impossible) {
+        wallNanos = System.nanoTime() - startWall;
+        long cpu = currentCpuNanos();
+        cpuNanos = cpu < 0 || startCpu < 0 ? -1 : cpu - startCpu + otherCpuNanos;
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.solver = solver;
+                event.width = graph.getWidth();
+                event.height = graph.getHeight();
+                event.piece = graph.getMoveSet().toString();
+                event.mode = mode.name();
+                event.start = path.get(0);
+                event.complete = complete;
+                event.length = path.size();
+                event.nodes = nodes;
+                event.degreeEvaluations = degreeEvaluations;
+                event.ties = ties;
+                event.backtracks = backtracks;
+                event.deadEndDepth = deadEndDepth;
+                event.cpuTime = cpuNanos;
+                event.commit();
+            }
+            event = null;
+        }
+        return new TourResult(graph, mode, path, complete, impossible, snapshot());
+    }
+
+    /**
+     * Copies the counters into a new, independent instance.
+     *
+     * @return The copy
+     */
+    SolverStats snapshot() {
+        SolverStats copy = new SolverStats();
+        copy.nodes = nodes;
+        copy.degreeEvaluations = degreeEvaluations;
+        copy.ties = ties;
+        copy.backtracks = backtracks;
+        copy.deadEndDepth = deadEndDepth;
+        copy.wallNanos = wallNanos;
+        copy.cpuNanos = cpuNanos;
+        return copy;
+    }
+
+    /**
+     * Gets the CPU time of the current thread.
+     *
+     * @return The CPU time in nanoseconds, or -1 if it cannot be measured
+     */
+    static long currentCpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    // Counting
+
+    void addNodes(long count) {
+        nodes += count;
+    }
+
+    void addDegreeEvaluations(long count) {
+        degreeEvaluations += count;
+    }
+
+    void addTies(long count) {
+        ties += count;
+    }
+
+    void addBacktracks(long count) {
+        backtracks += count;
+    }
+
+    /**
+     * Adds CPU time that other threads spent on this run, for solvers that fan out.
+     *
+     * @param nanos The CPU time in nanoseconds
+     */
+    void addCpuNanos(long nanos) {
+        otherCpuNanos += nanos;
+    }
+
+    /**
+     * Records that the piece got stuck; only the deepest dead end is kept.
+     *
+     * @param depth The number of squares on the stuck path
+     */
+    void recordDeadEnd(int depth) {
+        if (depth > deadEndDepth) {
+            deadEndDepth = depth;
+        }
+    }
+
+    /**
+     * Sets the elapsed times of a run that was not timed by {@link #start()}.
+     *
+     * @param wallNanos The wall time in nanoseconds
+     * @param cpuNanos  The CPU time in nanoseconds, or -1 if unknown
+     */
+    void setTimes(long wallNanos, long cpuNanos) {
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+    }
+
+    // SolverMetrics
+
+    @Override
+    public long getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public long getDegreeEvaluations() {
+        return degreeEvaluations;
+    }
+
+    @Override
+    public long getTies() {
+        return ties;
+    }
+
+    @Override
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    @Override
+    public int getDeadEndDepth() {
+        return deadEndDepth;
+    }
+
+    @Override
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    @Override
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.knighttour.model;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of the metrics of many searches, safe to update from any number of
+ * threads. Counters and times are summed; the dead-end depth is the deepest of all runs.
+ * Runs whose CPU time could not be measured add nothing to the CPU total.
+ */
+public class SolverTotals implements SolverMetrics {
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder completedRuns = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder degreeEvaluations = new LongAdder();
+    private final LongAdder ties = new LongAdder();
+    private final LongAdder backtracks = new LongAdder();
+    private final LongAccumulator deadEndDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder wallNanos = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+
+    /**
+     * Adds the metrics of one search.
+     *
+     * @param result The result of the search
+     */
+    public void add(TourResult result) {
+        SolverMetrics metrics = result.getMetrics();
+        runs.increment();
+        if (result.isComplete()) {
+            completedRuns.increment();
+        }
+        nodes.add(metrics.getNodes());
+        degreeEvaluations.add(metrics.getDegreeEvaluations());
+        ties.add(metrics.getTies());
+        backtracks.add(metrics.getBacktracks());
+        deadEndDepth.accumulate(metrics.getDeadEndDepth());
+        wallNanos.add(metrics.getWallNanos());
+        if (metrics.getCpuNanos() > 0) {
+            cpuNanos.add(metrics.getCpuNanos());
+        }
+    }
+
+    /**
+     * Gets the number of searches added.
+     *
+     * @return The run count
+     */
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    /**
+     * Gets the number of searches that found a tour of the requested kind.
+     *
+     * @return The completed run count
+     */
+    public long getCompletedRuns() {
+        return completedRuns.sum();
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    @Override
+    public long getDegreeEvaluations() {
+        return degreeEvaluations.sum();
+    }
+
+    @Override
+    public long getTies() {
+        return ties.sum();
+    }
+
+    @Override
+    public long getBacktracks() {
+        return backtracks.sum();
+    }
+
+    @Override
+    public int getDeadEndDepth() {
+        return (int) deadEndDepth.get();
+    }
+
+    @Override
+    public long getWallNanos() {
+        return wallNanos.sum();
+    }
+
+    @Override
+    public long getCpuNanos() {
+        return cpuNanos.sum();
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.knighttour.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded cache of complete tours, shared between solvers and threads.
+ * <p>
+ * A board looks the same under the symmetries of its rectangle (eight for a square
+ * board, four otherwise), and a move of any {@link MoveSet} stays a move under each of them.
+ * Every start square is therefore mapped to a canonical representative, the smallest
+ * packed index among its symmetric images, and only one tour is stored per canonical
+ * start. A lookup for any other start returns the stored tour transformed back.
+ * <p>
+ * Entries are evicted in least-recently-used order once the total number of stored
+ * squares exceeds the configured bound. Boards with blocked squares are not cached.
+ */
+public class TourCache {
+    // Inverse of each symmetry, indexed like transform()
+    private static final int[] INVERSE = {0, 1, 2, 3, 4, 6, 5, 7};
+
+    private final long maxSquares;
+    private final Map<Key, MoveSequence> tours = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedSquares;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSquares The maximum total number of squares held across all stored tours
+     */
+    public TourCache(long maxSquares) {
+        this.maxSquares = maxSquares;
+    }
+
+    /**
+     * Looks up a tour for the given start square.
+     *
+     * @param graph The knight graph of the board
+     * @param start The packed start square
+     * @param mode  The requested kind of tour
+     * @return A complete tour starting at {@code start}, or null if none is cached
+     */
+    public TourResult get(BoardGraph graph, int start, TourMode mode) {
+        if (graph.hasBlockedSquares()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        long startTime = System.nanoTime();
+        int symmetry = canonicalSymmetry(graph, start);
+        int canonical = transform(symmetry, start, graph.getWidth(), graph.getHeight());
+
+        MoveSequence tour;
+        synchronized (this) {
+            tour = tours.get(new Key(graph.getWidth(), graph.getHeight(), graph.getMoveSet(), canonical, mode));
+        }
+        if (tour == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+
+        MoveSequence path = transformAll(tour, INVERSE[symmetry], graph.getWidth(), graph.getHeight());
+        return new TourResult(graph, mode, path, true, 0, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Stores a complete tour. Incomplete results are ignored, since they depend on the
+     * solver's budget rather than on the board.
+     *
+     * @param graph  The knight graph the tour was found on
+     * @param result The search result
+     */
+    public void put(BoardGraph graph, TourResult result) {
+        if (!result.isComplete() || graph.hasBlockedSquares()) {
+            return;
+        }
+        int symmetry = canonicalSymmetry(graph, result.getStart());
+        int canonical = transform(symmetry, result.getStart(), graph.getWidth(), graph.getHeight());
+        MoveSequence tour = transformAll(result.getPath(), symmetry, graph.getWidth(), graph.getHeight());
+        Key key = new Key(graph.getWidth(), graph.getHeight(), graph.getMoveSet(), canonical, result.getMode());
+
+        synchronized (this) {
+            MoveSequence previous = tours.put(key, tour);
+            storedSquares += tour.size() - (previous == null ? 0 : previous.size());
+
+            Iterator<MoveSequence> eldest = tours.values().iterator();
+            while (storedSquares > maxSquares && eldest.hasNext()) {
+                storedSquares -= eldest.next().size();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes every stored tour. The counters are kept.
+     */
+    public synchronized void clear() {
+        tours.clear();
+        storedSquares = 0;
+    }
+
+    /**
+     * Finds the symmetry that maps a square to its canonical representative.
+     *
+     * @param graph  The knight graph of the board
+     * @param square The packed square
+     * @return The index of the symmetry, as used by {@link #transform(int, int, int, int)}
+     */
+    private static int canonicalSymmetry(BoardGraph graph, int square) {
+        int width = graph.getWidth();
+        int height = graph.getHeight();
+        int symmetries = width == height ? 8 : 4;
+        int best = 0;
+        int bestSquare = square;
+        for (int symmetry = 1; symmetry < symmetries; symmetry++) {
+            int image = transform(symmetry, square, width, height);
+            if (image < bestSquare) {
+                bestSquare = image;
+                best = symmetry;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Applies a symmetry of the board to a square. Symmetries 0-3 are the identity and
+     * the mirror images; 4-7 swap rows and columns and are only valid on square boards.
+     *
+     * @param symmetry The index of the symmetry
+     * @param square   The packed square
+     * @param width    The board width
+     * @param height   The board height
+     * @return The packed image of the square
+     */
+    static int transform(int symmetry, int square, int width, int height) {
+        int x = square % width;
+        int y = square / width;
+        switch (symmetry) {
+            case 1: return y * width + (width - 1 - x);
+            case 2: return (height - 1 - y) * width + x;
+            case 3: return (height - 1 - y) * width + (width - 1 - x);
+            case 4: return x * width + y;
+            case 5: return x * width + (height - 1 - y);
+            case 6: return (width - 1 - x) * width + y;
+            case 7: return (width - 1 - x) * width + (height - 1 - y);
+            default: return square;
+        }
+    }
+
+    /**
+     * Applies a symmetry to every square of a tour.
+     *
+     * @param tour     The tour to transform
+     * @param symmetry The index of the symmetry
+     * @param width    The board width
+     * @param height   The board height
+     * @return A new sequence holding the transformed tour
+     */
+    private static MoveSequence transformAll(MoveSequence tour, int symmetry, int width, int height) {
+        int[] squares = new int[tour.size()];
+        for (int i = 0; i < squares.length; i++) {
+            squares[i] = transform(symmetry, tour.get(i), width, height);
+        }
+        return MoveSequence.wrap(width, squares);
+    }
+
+    // Statistics
+
+    /**
+     * Gets the number of lookups that found a tour.
+     *
+     * @return The hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that found nothing.
+     *
+     * @return The miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of tours evicted to stay within the size bound.
+     *
+     * @return The eviction count
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the number of stored tours.
+     *
+     * @return The entry count
+     */
+    public synchronized int size() {
+        return tours.size();
+    }
+
+    /**
+     * Cache key: board dimensions, piece, canonical start square and tour mode.
+     */
+    private static final class Key {
+        private final int width;
+        private final int height;
+        private final MoveSet moveSet;
+        private final int start;
+        private final TourMode mode;
+
+        Key(int width, int height, MoveSet moveSet, int start, TourMode mode) {
+            this.width = width;
+            this.height = height;
+            this.moveSet = moveSet;
+            this.start = start;
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width && height == other.height && moveSet.equals(other.moveSet)
+                    && start == other.start && mode == other.mode;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(width, height, moveSet, start, mode);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.example.knighttour.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Exhaustive enumeration of every tour from a start square, for boards of up to 64 squares.
+ * <p>
+ * The search is a depth-first search over a 64-bit visited mask. The first
+ * {@code splitDepth} moves are expanded as fork-join tasks, one per candidate move,
+ * so idle workers steal whole subtrees; below that depth each task searches sequentially.
+ * A branch is cut as soon as an unvisited square next to the knight has no unvisited
+ * neighbours left and cannot be the last square, a square the knight just moved away from
+ * can no longer be entered and left (only one square of an open tour may be left as a dead
+ * end, and it has to be the last one), or, for closed tours, the start square has no
+ * unvisited neighbours left to come back from.
+ * <p>
+ * Symmetries of the board that keep the start square in place map tours to other tours
+ * from the same start, and no tour is its own image. Only the lexicographically smallest
+ * tour of each group of images is searched for; the count is multiplied by the size of the
+ * group, and the images are generated for the listener. Every tour is therefore reported
+ * exactly once.
+ */
+public class TourEnumerator {
+    /** Default number of moves expanded in parallel. */
+    public static final int DEFAULT_SPLIT_DEPTH = 6;
+
+    // Values of the forced last square that are not squares
+    private static final int NO_END = -1;
+    private static final int DEAD_END = -2;
+
+    private final ForkJoinPool pool;
+    private final int splitDepth;
+    private final long maxTours;
+    private final long nodeBudget;
+
+    /**
+     * Creates an enumerator that uses every available core and has no limits.
+     */
+    public TourEnumerator() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_SPLIT_DEPTH, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an enumerator with the given parallelism and limits.
+     * The search stops soon after either limit is reached.
+     *
+     * @param parallelism The number of worker threads
+     * @param splitDepth  The number of moves expanded as parallel tasks
+     * @param maxTours    The number of tours after which to stop
+     * @param nodeBudget  The number of nodes after which to stop
+     * @throws IllegalArgumentException if the parallelism, tour limit or budget is not positive,
+     *                                  or the split depth is negative
+     */
+    public TourEnumerator(int parallelism, int splitDepth, long maxTours, long nodeBudget) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (splitDepth < 0) {
+            throw new IllegalArgumentException("Split depth must not be negative");
+        }
+        if (maxTours <= 0 || nodeBudget <= 0) {
+            throw new IllegalArgumentException("Tour limit and node budget must be positive");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.splitDepth = splitDepth;
+        this.maxTours = maxTours;
+        this.nodeBudget = nodeBudget;
+    }
+
+    /**
+     * Counts the tours from a start square.
+     *
+     * @param graph The knight graph of the board
+     * @param start The packed start square
+     * @param mode  The kind of tours to count
+     * @return The counts and search statistics
+     * @throws IllegalArgumentException if the board has more than 64 squares
+     */
+    public EnumerationResult count(BoardGraph graph, int start, TourMode mode) {
+        return enumerate(graph, start, mode, null);
+    }
+
+    /**
+     * Enumerates the tours from a start square and passes each one to a listener.
+     * The listener is called from the worker threads and must be thread-safe; the
+     * sequence it receives is reused and must be copied to be kept.
+     *
+     * @param graph    The knight graph of the board
+     * @param start    The packed start square
+     * @param mode     The kind of tours to enumerate
+     * @param listener Receives every tour, or null to only count them
+     * @return The counts and search statistics
+     * @throws IllegalArgumentException if the board has more than 64 squares or the start is blocked
+     */
+    public EnumerationResult enumerate(BoardGraph graph, int start, TourMode mode, Consumer<MoveSequence> listener) {
+        if (graph.getSquareCount() > Long.SIZE) {
+            throw new IllegalArgumentException("Enumeration is limited to boards of at most 64 squares");
+        }
+        if (start < 0 || start >= graph.getSquareCount()) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        if (graph.isBlocked(start)) {
+            throw new IllegalArgumentException("Position is blocked");
+        }
+
+        long startTime = System.nanoTime();
+        Search search = new Search(graph, start, mode, listener);
+        int[] path = new int[graph.getOpenSquareCount()];
+        path[0] = start;
+        pool.invoke(new SearchTask(search, path, 0, 1L << start, search.allSymmetries, NO_END));
+
+        Map<String, Long> threadNodes = new HashMap<>();
+        search.threadNodes.forEach((thread, count) -> threadNodes.put(thread, count.sum()));
+        long nodes = search.nodes.sum();
+        boolean exhaustive = search.tours.get() < maxTours && nodes < nodeBudget;
+        return new EnumerationResult(mode, start, search.tours.get(), search.symmetries.length + 1, exhaustive,
+                nodes, System.nanoTime() - startTime, threadNodes);
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Tables and shared counters of one enumeration.
+     */
+    private final class Search {
+        private final BoardGraph graph;
+        private final int start;
+        private final int total;
+        private final boolean closed;
+        private final Consumer<MoveSequence> listener;
+        private final long[] neighbourMasks;
+        // Symmetries that fix the start square, identity excluded, as square permutations
+        private final int[][] symmetries;
+        private final int allSymmetries;
+
+        private final AtomicLong tours = new AtomicLong();
+        private final LongAdder nodes = new LongAdder();
+        private final Map<String, LongAdder> threadNodes = new ConcurrentHashMap<>();
+        private volatile boolean stopped;
+
+        Search(BoardGraph graph, int start, TourMode mode, Consumer<MoveSequence> listener) {
+            this.graph = graph;
+            this.start = start;
+            this.total = graph.getOpenSquareCount();
+            this.closed = mode == TourMode.CLOSED;
+            this.listener = listener;
+
+            int squares = graph.getSquareCount();
+            this.neighbourMasks = new long[squares];
+            for (int square = 0; square < squares; square++) {
+                for (int i = 0; i < graph.degree(square); i++) {
+                    neighbourMasks[square] |= 1L << graph.neighbour(square, i);
+                }
+            }
+
+            int width = graph.getWidth();
+            int height = graph.getHeight();
+            List<int[]> fixing = new ArrayList<>();
+            for (int symmetry = 1; symmetry < (width == height ? 8 : 4); symmetry++) {
+                if (TourCache.transform(symmetry, start, width, height) != start) {
+                    continue;
+                }
+                int[] image = new int[squares];
+                boolean keepsBlocked = true;
+                for (int square = 0; square < squares; square++) {
+                    image[square] = TourCache.transform(symmetry, square, width, height);
+                    keepsBlocked &= graph.isBlocked(square) == graph.isBlocked(image[square]);
+                }
+                // Only symmetries that map blocked squares onto blocked squares are symmetries of the board
+                if (keepsBlocked) {
+                    fixing.add(image);
+                }
+            }
+            this.symmetries = fixing.toArray(new int[0][]);
+            this.allSymmetries = (1 << symmetries.length) - 1;
+        }
+
+        /**
+         * Counts a canonical tour and passes it and its images to the listener.
+         *
+         * @param path The canonical tour
+         */
+        private void report(int[] path) {
+            if (tours.addAndGet(symmetries.length + 1) >= maxTours) {
+                stopped = true;
+            }
+            if (listener == null) {
+                return;
+            }
+            listener.accept(MoveSequence.wrap(graph.getWidth(), path));
+            for (int[] image : symmetries) {
+                int[] copy = new int[total];
+                for (int i = 0; i < total; i++) {
+                    copy[i] = image[path[i]];
+                }
+                listener.accept(MoveSequence.wrap(graph.getWidth(), copy));
+            }
+        }
+    }
+
+    /**
+     * Fork-join task that searches every continuation of a path prefix.
+     */
+    private final class SearchTask extends RecursiveAction {
+        private final Search search;
+        private final int[] path;
+        private final int depth;
+        private final long visited;
+        private final int tied;
+        private final int end;
+        private long nodes;
+
+        /**
+         * Creates a task for the continuations of a prefix.
+         *
+         * @param search  The enumeration this task belongs to
+         * @param path    The prefix, owned by the task
+         * @param depth   The index of the last square of the prefix
+         * @param visited The squares of the prefix as a bit mask
+         * @param tied    The symmetries under which the prefix is its own image, as a bit mask
+         * @param end     The square that has to be the last one, or {@link #NO_END}
+         */
+        SearchTask(Search search, int[] path, int depth, long visited, int tied, int end) {
+            this.search = search;
+            this.path = path;
+            this.depth = depth;
+            this.visited = visited;
+            this.tied = tied;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth >= splitDepth) {
+                search(depth, visited, tied, end);
+            } else {
+                List<SearchTask> children = new ArrayList<>();
+                nodes++;
+                int nextEnd = forcedEnd(depth, visited, end);
+                if (nextEnd != DEAD_END) {
+                    long free = search.neighbourMasks[path[depth]] & ~visited;
+                    while (free != 0) {
+                        int next = Long.numberOfTrailingZeros(free);
+                        free &= free - 1;
+                        int nextTied = untie(tied, next);
+                        if (nextTied < 0) {
+                            continue;
+                        }
+                        if (depth + 1 == search.total - 1) {
+                            path[depth + 1] = next;
+                            complete(depth + 1);
+                            continue;
+                        }
+                        int[] childPath = path.clone();
+                        childPath[depth + 1] = next;
+                        children.add(new SearchTask(search, childPath, depth + 1, visited | 1L << next, nextTied,
+                                nextEnd));
+                    }
+                }
+                invokeAll(children);
+            }
+
+            search.nodes.add(nodes);
+            search.threadNodes.computeIfAbsent(Thread.currentThread().getName(), name -> new LongAdder())
+                    .add(nodes);
+        }
+
+        /**
+         * Searches every continuation of the path up to the given depth sequentially.
+         *
+         * @param depth   The index of the knight's square in the path
+         * @param visited The visited squares as a bit mask
+         * @param tied    The symmetries under which the path is its own image
+         * @param end     The square that has to be the last one, or {@link #NO_END}
+         */
+        private void search(int depth, long visited, int tied, int end) {
+            nodes++;
+            if (depth == search.total - 1) {
+                complete(depth);
+                return;
+            }
+            int nextEnd = forcedEnd(depth, visited, end);
+            if (search.stopped || nextEnd == DEAD_END) {
+                return;
+            }
+            if ((nodes & 0xFFFF) == 0 && search.nodes.sum() + nodes >= nodeBudget) {
+                search.stopped = true;
+                return;
+            }
+
+            long free = search.neighbourMasks[path[depth]] & ~visited;
+            while (free != 0) {
+                int next = Long.numberOfTrailingZeros(free);
+                free &= free - 1;
+                int nextTied = untie(tied, next);
+                if (nextTied >= 0) {
+                    path[depth + 1] = next;
+                    search(depth + 1, visited | 1L << next, nextTied, nextEnd);
+                }
+            }
+        }
+
+        /**
+         * Checks whether the path can still be completed, and finds the square that has to be
+         * the last one of an open tour.
+         *
+         * @param depth   The index of the knight's square in the path
+         * @param visited The visited squares as a bit mask
+         * @param end     The square known to be the last one, or {@link #NO_END}
+         * @return The square that has to be the last one, {@link #NO_END}, or {@link #DEAD_END}
+         *         if the branch can be cut
+         */
+        private int forcedEnd(int depth, long visited, int end) {
+            long[] masks = search.neighbourMasks;
+            long free = ~visited;
+            // An unvisited square whose only way in is from here has to be the last one
+            if (depth + 2 < search.total) {
+                long next = masks[path[depth]] & free;
+                while (next != 0) {
+                    int square = Long.numberOfTrailingZeros(next);
+                    next &= next - 1;
+                    if ((masks[square] & free) == 0) {
+                        return DEAD_END;
+                    }
+                }
+            }
+            if (depth == 0) {
+                return end;
+            }
+            // A closed tour has to end next to the start
+            if (search.closed && (masks[search.start] & free) == 0) {
+                return DEAD_END;
+            }
+
+            // Squares left behind by the last move can no longer be entered from the knight.
+            // They need a way in and a way out; a closed tour may leave back to the start,
+            // and one square of an open tour may be a dead end, which then has to be the last.
+            long exits = search.closed ? free | 1L << search.start : free;
+            long behind = masks[path[depth - 1]] & free & ~masks[path[depth]];
+            while (behind != 0) {
+                int square = Long.numberOfTrailingZeros(behind);
+                behind &= behind - 1;
+                int degree = Long.bitCount(masks[square] & exits);
+                if (degree >= 2) {
+                    continue;
+                }
+                if (search.closed || degree == 0 || (end != NO_END && end != square)) {
+                    return DEAD_END;
+                }
+                end = square;
+            }
+            return end;
+        }
+        /**
+         * Updates the symmetries under which the path stays its own image after a move.
+         *
+         * @param tied The symmetries tied before the move
+         * @param next The square moved to
+         * @return The symmetries still tied, or -1 if the path is larger than one of its images
+         */
+        private int untie(int tied, int next) {
+            int result = tied;
+            for (int bits = tied; bits != 0; bits &= bits - 1) {
+                int symmetry = Integer.numberOfTrailingZeros(bits);
+                int image = search.symmetries[symmetry][next];
+                if (next > image) {
+                    return -1;
+                }
+                if (next < image) {
+                    result &= ~(1 << symmetry);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Reports the path if it is a tour of the requested kind.
+         *
+         * @param depth The index of the last square, one less than the number of squares
+         */
+        private void complete(int depth) {
+            if (!search.closed || WarnsdorffSolver.isNeighbour(search.graph, path[depth], search.start)) {
+                search.report(search.listener == null ? path : path.clone());
+            }
+        }
+    }
+}
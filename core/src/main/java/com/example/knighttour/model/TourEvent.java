@@ -0,0 +1,68 @@
+package com.example.knighttour.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for one tour search. The event's duration is the wall time of
+ * the search. It is recorded whenever a flight recording is running, for example one
+ * started with {@code -XX:StartFlightRecording:filename=tours.jfr}; without a recording
+ * the event is never filled in.
+ */
+@Name("com.example.knighttour.Tour")
+@Label("Tour Search")
+@Category("Knight's Tour")
+@Description("A single tour search by one of the solvers")
+@StackTrace(false)
+class TourEvent extends Event {
+    @Label("Solver")
+    String solver;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    @Label("Piece")
+    String piece;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Start Square")
+    @Description("The packed start square, y * width + x")
+    int start;
+
+    @Label("Complete")
+    boolean complete;
+
+    @Label("Length")
+    @Description("The number of squares on the path found")
+    int length;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Degree Evaluations")
+    long degreeEvaluations;
+
+    @Label("Ties")
+    long ties;
+
+    @Label("Backtracks")
+    long backtracks;
+
+    @Label("Dead-End Depth")
+    @Description("The number of squares on the longest path that got stuck")
+    int deadEndDepth;
+
+    @Label("CPU Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuTime;
+}
@@ -0,0 +1,139 @@
+package com.example.knighttour.model;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily generates a Warnsdorff tour one move at a time.
+ * Each move is computed only when it is requested and the path is never stored,
+ * so a consumer can write a tour out while it is being searched, and memory does
+ * not grow with the length of the tour. The moves are the same as those of
+ * {@link BitboardTour}; iteration ends when the knight gets stuck or the board is covered.
+ */
+public class TourGenerator implements Iterator<Move> {
+    // Marks that the next square has not been computed yet
+    private static final int UNKNOWN = -2;
+    // Marks that the tour has ended
+    private static final int END = -1;
+
+    private final BitboardTour engine;
+    private final BoardGraph graph;
+    private int next = UNKNOWN;
+    private int index;
+    private boolean started;
+
+    /**
+     * Creates a generator for a tour from the given square.
+     *
+     * @param graph The precomputed knight graph
+     * @param start The packed index of the starting square
+     * @throws IllegalArgumentException if the start square is not on the board or is blocked
+     */
+    public TourGenerator(BoardGraph graph, int start) {
+        if (start < 0 || start >= graph.getSquareCount()) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        if (graph.isBlocked(start)) {
+            throw new IllegalArgumentException("Position is blocked");
+        }
+        this.graph = graph;
+        this.engine = new BitboardTour(graph, false);
+        engine.start(start);
+    }
+
+    /**
+     * Streams the moves of a tour, computing each one on demand.
+     *
+     * @param graph The precomputed knight graph
+     * @param start The packed index of the starting square
+     * @return A sequential, ordered stream of moves
+     */
+    public static Stream<Move> stream(BoardGraph graph, int start) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new TourGenerator(graph, start),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+    }
+
+    /**
+     * Streams the packed squares of a tour without allocating per move.
+     *
+     * @param graph The precomputed knight graph
+     * @param start The packed index of the starting square
+     * @return A sequential, ordered stream of packed square indices
+     */
+    public static IntStream squares(BoardGraph graph, int start) {
+        TourGenerator generator = new TourGenerator(graph, start);
+        PrimitiveIterator.OfInt iterator = new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return generator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return generator.nextSquare();
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == UNKNOWN) {
+            if (!started) {
+                started = true;
+                next = engine.getCurrentSquare();
+            } else {
+                next = engine.makeNextMove() ? engine.getCurrentSquare() : END;
+            }
+        }
+        return next != END;
+    }
+
+    @Override
+    public Move next() {
+        int moveIndex = index;
+        int square = nextSquare();
+        return new Move(moveIndex, graph.xOf(square), graph.yOf(square));
+    }
+
+    /**
+     * Gets the next square of the tour without allocating.
+     *
+     * @return The packed index of the next square
+     * @throws NoSuchElementException if the tour has ended
+     */
+    public int nextSquare() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Tour has ended");
+        }
+        int square = next;
+        next = UNKNOWN;
+        index++;
+        return square;
+    }
+
+    /**
+     * Checks whether the moves generated so far cover the whole board.
+     *
+     * @return true if the tour is complete
+     */
+    public boolean isComplete() {
+        return index == graph.getOpenSquareCount();
+    }
+
+    /**
+     * Gets the number of moves returned so far.
+     *
+     * @return The number of squares emitted, including the start
+     */
+    public int getMoveCount() {
+        return index;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.knighttour.model;
+
+/**
+ * Kind of tour a solver is asked to find.
+ */
+public enum TourMode {
+    /** Every square is visited exactly once; the tour may end anywhere. */
+    OPEN,
+    /** Every square is visited exactly once and the last square is a knight's move from the start. */
+    CLOSED
+}
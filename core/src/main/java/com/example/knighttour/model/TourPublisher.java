@@ -0,0 +1,125 @@
+package com.example.knighttour.model;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} that generates a Warnsdorff tour as its subscriber asks for moves.
+ * Every subscriber gets its own tour from the same start square. Moves are computed
+ * on the given executor only while there is outstanding demand, so a slow subscriber
+ * (a socket or a file) holds back the search instead of letting moves pile up.
+ * The publisher completes when the knight gets stuck or the board is covered;
+ * the subscriber can tell the two apart by counting the moves it received.
+ */
+public class TourPublisher implements Flow.Publisher<Move> {
+    private final BoardGraph graph;
+    private final int start;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher for tours from the given square.
+     *
+     * @param graph    The precomputed knight graph
+     * @param start    The packed index of the starting square
+     * @param executor Runs the search on behalf of subscribers
+     * @throws IllegalArgumentException if the start square is not on the board or is blocked
+     */
+    public TourPublisher(BoardGraph graph, int start, Executor executor) {
+        if (start < 0 || start >= graph.getSquareCount()) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        if (graph.isBlocked(start)) {
+            throw new IllegalArgumentException("Position is blocked");
+        }
+        this.graph = graph;
+        this.start = start;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Move> subscriber) {
+        TourSubscription subscription = new TourSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Subscription that emits moves on the executor, at most as many as requested.
+     * A work-in-progress counter makes sure only one drain loop runs at a time.
+     */
+    private class TourSubscription implements Flow.Subscription {
+        // Number of moves emitted before the drain loop yields the executor thread
+        private static final int BATCH_SIZE = 1024;
+
+        private final Flow.Subscriber<? super Move> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private TourGenerator generator;
+
+        TourSubscription(Flow.Subscriber<? super Move> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (done.compareAndSet(false, true)) {
+                    subscriber.onError(new IllegalArgumentException("Demand must be positive: " + n));
+                }
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
+
+        /**
+         * Starts a drain loop unless one is already running.
+         */
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Emits moves while there is demand, then completes the subscriber at the end of the tour.
+         */
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                if (generator == null && !done.get()) {
+                    generator = new TourGenerator(graph, start);
+                }
+                int emitted = 0;
+                while (!done.get() && demand.get() > 0 && emitted < BATCH_SIZE && generator.hasNext()) {
+                    demand.decrementAndGet();
+                    emitted++;
+                    subscriber.onNext(generator.next());
+                }
+                if (!done.get() && !generator.hasNext() && done.compareAndSet(false, true)) {
+                    subscriber.onComplete();
+                }
+                if (emitted == BATCH_SIZE && !done.get() && demand.get() > 0) {
+                    // Give other tasks a turn before emitting the next batch
+                    executor.execute(this::drain);
+                    return;
+                }
+                missed = pending.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.knighttour.model;
+
+/**
+ * Outcome of a single tour search.
+ * The path holds packed square indices ({@code y * width + x}) in visiting order,
+ * and {@link #getMetrics()} tells how the search went.
+ */
+public class TourResult {
+    private final int width;
+    private final int height;
+    private final TourMode mode;
+    private final MoveSequence path;
+    private final boolean complete;
+    private final boolean impossible;
+    private final SolverMetrics metrics;
+
+    /**
+     * Creates a new tour result.
+     *
+     * @param graph        The knight graph the search ran on
+     * @param mode         The requested kind of tour
+     * @param path         The visited squares in order (the longest path found if the search failed)
+     * @param complete     Whether the path is a tour satisfying the requested mode
+     * @param nodes        The number of search nodes expanded
+     * @param elapsedNanos The wall time of the search in nanoseconds
+     */
+    public TourResult(BoardGraph graph, TourMode mode, MoveSequence path, boolean complete,
+                      long nodes, long elapsedNanos) {
+        this(graph, mode, path, complete, timedStats(nodes, elapsedNanos));
+    }
+
+    /**
+     * Creates a new tour result with the full counters of the search.
+     *
+     * @param graph    The knight graph the search ran on
+     * @param mode     The requested kind of tour
+     * @param path     The visited squares in order (the longest path found if the search failed)
+     * @param complete Whether the path is a tour satisfying the requested mode
+     * @param metrics  The counters and timers of the search
+     */
+    public TourResult(BoardGraph graph, TourMode mode, MoveSequence path, boolean complete, SolverMetrics metrics) {
+        this(graph, mode, path, complete, false, metrics);
+    }
+
+    /**
+     * Creates a new tour result that may record a proof that no tour exists.
+     *
+     * @param graph      The knight graph the search ran on
+     * @param mode       The requested kind of tour
+     * @param path       The visited squares in order (the longest path found if the search failed)
+     * @param complete   Whether the path is a tour satisfying the requested mode
+     * @param impossible Whether the search proved that no tour of the requested kind exists
+     * @param metrics    The counters and timers of the search
+     */
+    public TourResult(BoardGraph graph, TourMode mode, MoveSequence path, boolean complete, boolean impossible,
+                      SolverMetrics metrics) {
+        this.width = graph.getWidth();
+        this.height = graph.getHeight();
+        this.mode = mode;
+        this.path = path;
+        this.complete = complete;
+        this.impossible = impossible;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Builds the metrics of a search that only counted nodes and wall time.
+     *
+     * @param nodes        The number of search nodes expanded
+     * @param elapsedNanos The wall time of the search in nanoseconds
+     * @return The metrics
+     */
+    private static SolverMetrics timedStats(long nodes, long elapsedNanos) {
+        SolverStats stats = new SolverStats();
+        stats.addNodes(nodes);
+        stats.setTimes(elapsedNanos, -1);
+        return stats;
+    }
+
+    /**
+     * Gets the number of columns of the board.
+     *
+     * @return The board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows of the board.
+     *
+     * @return The board height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the requested kind of tour.
+     *
+     * @return The tour mode
+     */
+    public TourMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the packed start square.
+     *
+     * @return The start square
+     */
+    public int getStart() {
+        return path.get(0);
+    }
+
+    /**
+     * Gets the visited squares in order.
+     *
+     * @return The packed square indices
+     */
+    public MoveSequence getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of squares in the path.
+     *
+     * @return The path length
+     */
+    public int getLength() {
+        return path.size();
+    }
+
+    /**
+     * Checks whether the search found a tour of the requested kind.
+     *
+     * @return true if the tour is complete
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Checks whether the search proved that no tour of the requested kind exists, either
+     * by a {@link Feasibility} check or by an exhaustive search. A result that is neither
+     * complete nor impossible only means that the search gave up.
+     *
+     * @return true if no tour exists
+     */
+    public boolean isImpossible() {
+        return impossible;
+    }
+
+    /**
+     * Gets the number of search nodes expanded.
+     *
+     * @return The node count
+     */
+    public long getNodes() {
+        return metrics.getNodes();
+    }
+
+    /**
+     * Gets the wall time of the search.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return metrics.getWallNanos();
+    }
+
+    /**
+     * Gets the counters and timers of the search.
+     *
+     * @return The search metrics
+     */
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+}
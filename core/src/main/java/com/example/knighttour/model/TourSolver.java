@@ -0,0 +1,19 @@
+package com.example.knighttour.model;
+
+/**
+ * A strategy for finding a Knight's Tour on a board.
+ * Implementations may reuse internal buffers between calls and are therefore
+ * not thread-safe; use one instance per thread.
+ */
+public interface TourSolver {
+
+    /**
+     * Searches for a tour from the given start square.
+     *
+     * @param graph The knight graph of the board
+     * @param start The packed index of the starting square
+     * @param mode  Whether an open or a closed tour is required
+     * @return The result of the search; check {@link TourResult#isComplete()} for success
+     */
+    TourResult solve(BoardGraph graph, int start, TourMode mode);
+}
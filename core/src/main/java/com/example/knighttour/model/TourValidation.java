@@ -0,0 +1,74 @@
+package com.example.knighttour.model;
+
+/**
+ * Outcome of checking a tour with {@link TourValidator}: either valid, or the index of
+ * the first element that breaks the tour and the reason why.
+ */
+public class TourValidation {
+    /** The outcome of a valid tour. */
+    public static final TourValidation VALID = new TourValidation(-1, null);
+
+    /**
+     * The ways in which a tour can be broken.
+     */
+    public enum Reason {
+        /** The element is not a square of the board. */
+        OUT_OF_RANGE,
+        /** The element is a blocked square. */
+        BLOCKED,
+        /** The step from the previous square is not a move of the piece. */
+        ILLEGAL_MOVE,
+        /** The square was visited before. */
+        REPEATED,
+        /** The tour ends before every open square is visited; the index is the tour length. */
+        INCOMPLETE,
+        /** A closed tour does not end a move away from its start; the index is the last square. */
+        NOT_CLOSED
+    }
+
+    private final int index;
+    private final Reason reason;
+
+    /**
+     * Creates the outcome of an invalid tour.
+     *
+     * @param index  The index of the first element that breaks the tour
+     * @param reason Why the element breaks the tour
+     */
+    public TourValidation(int index, Reason reason) {
+        this.index = index;
+        this.reason = reason;
+    }
+
+    /**
+     * Checks whether the tour is valid.
+     *
+     * @return true if no error was found
+     */
+    public boolean isValid() {
+        return reason == null;
+    }
+
+    /**
+     * Gets the index of the first element that breaks the tour.
+     *
+     * @return The index, or -1 if the tour is valid
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets why the tour is broken.
+     *
+     * @return The reason, or null if the tour is valid
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return reason == null ? "valid" : reason.name().toLowerCase() + " at index " + index;
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.knighttour.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks that a sequence of packed squares is a tour of a board: every element is an
+ * open square, every step is a move of the graph's piece, no square is visited twice,
+ * every open square is visited and, for a closed tour, the last square is a move away
+ * from the first.
+ * <p>
+ * A tour is checked in a single pass. Visited squares are kept in a bitset of one bit
+ * per square, and steps are checked against a table of the piece's move offsets rather
+ * than the neighbour lists, so each element costs a division, a table lookup and a bit
+ * test. {@link #validateParallel} splits very long tours into chunks checked on a
+ * fork-join pool, sharing one bitset whose bits are set atomically.
+ * <p>
+ * Tours are read from an {@link IntBuffer} between its position and limit, which covers
+ * arrays, {@link MoveSequence#asReadOnlyBuffer()} and buffers mapped from a file or
+ * received from the network alike. Reported indices are relative to the position. A
+ * validator holds no state between calls and may be shared between threads.
+ */
+public class TourValidator {
+    // Tours shorter than this are checked sequentially by validateParallel
+    private static final int PARALLEL_THRESHOLD = 1 << 18;
+    // Number of squares per parallel chunk
+    private static final int CHUNK_SIZE = 1 << 16;
+    // Squares between checks whether another chunk already failed
+    private static final int FAILURE_CHECK_MASK = 4095;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final BoardGraph graph;
+    private final int width;
+    private final int squareCount;
+    private final int reach;
+    private final int span;
+    private final boolean[] legalSteps;
+
+    /**
+     * Creates a validator for the tours of one board.
+     *
+     * @param graph The graph of the board, whose move set decides which steps are legal
+     */
+    public TourValidator(BoardGraph graph) {
+        this.graph = graph;
+        this.width = graph.getWidth();
+        this.squareCount = graph.getSquareCount();
+
+        MoveSet moveSet = graph.getMoveSet();
+        int longest = 0;
+        for (int i = 0; i < moveSet.size(); i++) {
+            longest = Math.max(longest, Math.max(Math.abs(moveSet.getDx(i)), Math.abs(moveSet.getDy(i))));
+        }
+        this.reach = longest;
+        this.span = 2 * longest + 1;
+        this.legalSteps = new boolean[span * span];
+        for (int i = 0; i < moveSet.size(); i++) {
+            legalSteps[(moveSet.getDy(i) + reach) * span + moveSet.getDx(i) + reach] = true;
+        }
+    }
+
+    /**
+     * Checks a tour.
+     *
+     * @param tour The packed squares of the tour
+     * @param mode Whether the tour must be closed
+     * @return {@link TourValidation#VALID}, or the first error
+     */
+    public TourValidation validate(int[] tour, TourMode mode) {
+        return validate(IntBuffer.wrap(tour), mode);
+    }
+
+    /**
+     * Checks a tour.
+     *
+     * @param tour The tour
+     * @param mode Whether the tour must be closed
+     * @return {@link TourValidation#VALID}, or the first error
+     */
+    public TourValidation validate(MoveSequence tour, TourMode mode) {
+        return validate(tour.asReadOnlyBuffer(), mode);
+    }
+
+    /**
+     * Checks a tour on the calling thread.
+     *
+     * @param tour The packed squares of the tour, between the buffer's position and limit;
+     *             the position is not changed
+     * @param mode Whether the tour must be closed
+     * @return {@link TourValidation#VALID}, or the first error
+     */
+    public TourValidation validate(IntBuffer tour, TourMode mode) {
+        int base = tour.position();
+        int length = tour.remaining();
+        long[] visited = new long[(squareCount + 63) >>> 6];
+        TourValidation error = scan(tour, base, 0, length, visited, false, null);
+        return error != null ? error : checkEnds(tour, base, length, mode);
+    }
+
+    /**
+     * Checks a tour on the common fork-join pool.
+     *
+     * @param tour The packed squares of the tour, between the buffer's position and limit;
+     *             the position is not changed
+     * @param mode Whether the tour must be closed
+     * @return {@link TourValidation#VALID}, or the first error
+     * @see #validateParallel(IntBuffer, TourMode, ForkJoinPool)
+     */
+    public TourValidation validateParallel(IntBuffer tour, TourMode mode) {
+        return validateParallel(tour, mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Checks a tour in parallel chunks.
+     * <p>
+     * Short tours, and tours checked on a pool with a single thread, are checked
+     * sequentially, since setting bits atomically costs more than it gains there.
+     * Otherwise the chunks are checked on the pool and stop as soon as one of them finds
+     * an error. Which of two visits to a square is seen as the repeat then depends on
+     * timing, so an invalid tour is checked once more sequentially, which stops at its
+     * first error. The result is always that of {@link #validate(IntBuffer, TourMode)}.
+     *
+     * @param tour The packed squares of the tour, between the buffer's position and limit;
+     *             the position is not changed
+     * @param mode Whether the tour must be closed
+     * @param pool The pool that checks the chunks
+     * @return {@link TourValidation#VALID}, or the first error
+     */
+    public TourValidation validateParallel(IntBuffer tour, TourMode mode, ForkJoinPool pool) {
+        int base = tour.position();
+        int length = tour.remaining();
+        if (length < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            return validate(tour, mode);
+        }
+
+        long[] visited = new long[(squareCount + 63) >>> 6];
+        AtomicBoolean failed = new AtomicBoolean();
+        pool.invoke(new ChunkTask(tour, base, 0, length, visited, failed));
+        if (failed.get()) {
+            return validate(tour, mode);
+        }
+        return checkEnds(tour, base, length, mode);
+    }
+
+    /**
+     * Checks the elements of a range and marks their squares as visited.
+     *
+     * @param tour    The tour
+     * @param base    The buffer position of element 0
+     * @param from    The first element to check
+     * @param to      The element after the last one to check
+     * @param visited The bitset of visited squares
+     * @param atomic  Whether other threads mark squares in the same bitset
+     * @param failed  Set when an error is found, and polled to stop early; may be null
+     * @return The first error of the range, or null
+     */
+    private TourValidation scan(IntBuffer tour, int base, int from, int to, long[] visited, boolean atomic,
+                                AtomicBoolean failed) {
+        int previousX = 0;
+        int previousY = 0;
+        if (from > 0) {
+            // The square before the range was checked by another chunk
+            int previous = tour.get(base + from - 1);
+            previousY = previous / width;
+            previousX = previous - previousY * width;
+        }
+
+        for (int i = from; i < to; i++) {
+            int square = tour.get(base + i);
+            if (square < 0 || square >= squareCount) {
+                return fail(i, TourValidation.Reason.OUT_OF_RANGE, failed);
+            }
+            if (graph.isBlocked(square)) {
+                return fail(i, TourValidation.Reason.BLOCKED, failed);
+            }
+            int y = square / width;
+            int x = square - y * width;
+            if (i > 0) {
+                int dx = x - previousX;
+                int dy = y - previousY;
+                if (dx < -reach || dx > reach || dy < -reach || dy > reach
+                        || !legalSteps[(dy + reach) * span + dx + reach]) {
+                    return fail(i, TourValidation.Reason.ILLEGAL_MOVE, failed);
+                }
+            }
+
+            int word = square >>> 6;
+            long bit = 1L << square;
+            if (atomic) {
+                if (((long) WORDS.getAndBitwiseOr(visited, word, bit) & bit) != 0) {
+                    return fail(i, TourValidation.Reason.REPEATED, failed);
+                }
+                if ((i & FAILURE_CHECK_MASK) == 0 && failed.get()) {
+                    return null;
+                }
+            } else {
+                if ((visited[word] & bit) != 0) {
+                    return fail(i, TourValidation.Reason.REPEATED, failed);
+                }
+                visited[word] |= bit;
+            }
+            previousX = x;
+            previousY = y;
+        }
+        return null;
+    }
+
+    /**
+     * Records an error.
+     */
+    private static TourValidation fail(int index, TourValidation.Reason reason, AtomicBoolean failed) {
+        if (failed != null) {
+            failed.set(true);
+        }
+        return new TourValidation(index, reason);
+    }
+
+    /**
+     * Checks the length of a tour whose elements are all valid, and its closing move.
+     * With no square repeated, a tour of the right length visits every open square.
+     */
+    private TourValidation checkEnds(IntBuffer tour, int base, int length, TourMode mode) {
+        if (length < graph.getOpenSquareCount()) {
+            return new TourValidation(length, TourValidation.Reason.INCOMPLETE);
+        }
+        if (mode == TourMode.CLOSED && length > 1) {
+            int first = tour.get(base);
+            int last = tour.get(base + length - 1);
+            int dx = first % width - last % width;
+            int dy = first / width - last / width;
+            if (dx < -reach || dx > reach || dy < -reach || dy > reach
+                    || !legalSteps[(dy + reach) * span + dx + reach]) {
+                return new TourValidation(length - 1, TourValidation.Reason.NOT_CLOSED);
+            }
+        }
+        return TourValidation.VALID;
+    }
+
+    /**
+     * Fork-join task that checks a contiguous range of a tour, split into chunks.
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private final IntBuffer tour;
+        private final int base;
+        private final int from;
+        private final int to;
+        private final long[] visited;
+        private final AtomicBoolean failed;
+
+        ChunkTask(IntBuffer tour, int base, int from, int to, long[] visited, AtomicBoolean failed) {
+            this.tour = tour;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.visited = visited;
+            this.failed = failed;
+        }
+
+        @Override
+        protected void compute() {
+            if (failed.get()) {
+                return;
+            }
+            if (to - from <= CHUNK_SIZE) {
+                scan(tour, base, from, to, visited, true, failed);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(tour, base, from, middle, visited, failed),
+                    new ChunkTask(tour, base, middle, to, visited, failed));
+        }
+    }
+}
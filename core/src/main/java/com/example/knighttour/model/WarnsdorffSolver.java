@@ -0,0 +1,56 @@
+package com.example.knighttour.model;
+
+/**
+ * Plain Warnsdorff solver without backtracking.
+ * A closed tour is only reported when the greedy tour happens to end a knight's
+ * move away from its start. Boards that fail a {@link Feasibility} check are
+ * rejected without moving the knight.
+ */
+public class WarnsdorffSolver implements TourSolver {
+    private final SolverStats stats = new SolverStats();
+    private BitboardTour tour;
+
+    @Override
+    public TourResult solve(BoardGraph graph, int start, TourMode mode) {
+        stats.start();
+        if (Feasibility.check(graph, start, mode) != Feasibility.POSSIBLE) {
+            return stats.finish("warnsdorff", graph, mode, MoveSequence.wrap(graph.getWidth(), new int[]{start}),
+                    false, true);
+        }
+        if (tour == null || tour.getGraph() != graph) {
+            tour = new BitboardTour(graph);
+        }
+
+        tour.start(start);
+        boolean complete = tour.solve();
+        if (complete && mode == TourMode.CLOSED) {
+            complete = isNeighbour(graph, tour.getCurrentSquare(), start);
+        }
+
+        stats.addNodes(tour.getMoveCount() - 1L);
+        stats.addDegreeEvaluations(tour.getDegreeEvaluations());
+        stats.addTies(tour.getTies());
+        if (!tour.isComplete()) {
+            stats.recordDeadEnd(tour.getMoveCount());
+        }
+        MoveSequence path = MoveSequence.wrap(graph.getWidth(), tour.getPath().toArray());
+        return stats.finish("warnsdorff", graph, mode, path, complete);
+    }
+
+    /**
+     * Checks whether two squares are a knight's move apart.
+     *
+     * @param graph The knight graph
+     * @param from  The first square
+     * @param to    The second square
+     * @return true if the squares are adjacent in the graph
+     */
+    static boolean isNeighbour(BoardGraph graph, int from, int to) {
+        for (int i = 0; i < graph.degree(from); i++) {
+            if (graph.neighbour(from, i) == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,440 @@
+package com.example.knighttour.server;
+
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.MoveSet;
+import com.example.knighttour.model.SolverTotals;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP front end of the {@link TourService}, built on the JDK's {@code HttpServer}.
+ * Every exchange is handled on its own virtual thread.
+ * <p>
+ * {@code GET /tour?n=8&x=0&y=0&closed=false} returns a tour. The board is given either
+ * as {@code n} (square) or as {@code w} and {@code h}; {@code x} and {@code y} default
+ * to the top-left corner, and {@code piece} selects another leaper as in
+ * {@link MoveSet#parse(String)}, combining at most {@link TourService#MAX_LEAPERS} leapers;
+ * boards are limited by {@link TourService#MAX_SQUARES} and {@link TourService#MAX_MOVES}.
+ * {@code solver=exact} searches with the exact solver,
+ * which can also prove that no tour exists, for at most {@code timeout} milliseconds
+ * (capped by the server), and accepts a last square {@code ex}, {@code ey}. The path is
+ * streamed as JSON, with squares packed as {@code y * width + x}:
+ * <pre>
+ * {"width":8,"height":8,"piece":"knight","mode":"open","start":0,"complete":true,
+ *  "impossible":false,"length":64,"nodes":63,"path":[0,17,...]}
+ * </pre>
+ * With {@code format=binary}, or an {@code Accept: application/octet-stream} header,
+ * the response is a big-endian binary record instead:
+ * <pre>
+ * int width, int height, int start, byte mode (0 open, 1 closed),
+ * byte bytes per square (2 or 4), byte complete (0 or 1), byte impossible (0 or 1),
+ * int length                                                          (20 bytes)
+ * followed by length packed squares
+ * </pre>
+ * {@code GET /metrics} returns the request, coalescing, cache, impossible and solver counters as
+ * plain text. Invalid requests are answered with status 400 and a one-line message.
+ */
+public class TourServer {
+    // Pending connections the listening socket queues before refusing new ones
+    private static final int BACKLOG = 1024;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int BINARY_HEADER_SIZE = 20;
+
+    static {
+        // Without TCP_NODELAY every keep-alive request waits out a delayed ACK (about 40 ms),
+        // since headers and body leave in separate writes. Read once, when the first server is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final TourService service;
+
+    /**
+     * Creates a server; call {@link #start()} to accept requests.
+     *
+     * @param address The address to listen on; port 0 picks a free port
+     * @param service The service that computes the tours
+     * @throws IOException if the address cannot be bound
+     */
+    public TourServer(InetSocketAddress address, TourService service) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/tour", this::handleTour);
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    /**
+     * Starts accepting requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server, waiting up to the given time for running exchanges to finish.
+     *
+     * @param delaySeconds The maximum time to wait in seconds
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles {@code /tour}.
+     *
+     * @param exchange The HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handleTour(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!checkGet(exchange)) {
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            TourResult result;
+            MoveSet moveSet;
+            boolean binary;
+            try {
+                int width;
+                int height;
+                if (query.containsKey("n")) {
+                    width = parseInt(query, "n", 0);
+                    height = width;
+                } else {
+                    width = parseInt(query, "w", 0);
+                    height = parseInt(query, "h", width);
+                }
+                int x = parseInt(query, "x", 0);
+                int y = parseInt(query, "y", 0);
+                TourMode mode = parseBoolean(query, "closed") ? TourMode.CLOSED : TourMode.OPEN;
+                moveSet = query.containsKey("piece") ? parsePiece(query.get("piece")) : MoveSet.KNIGHT;
+                binary = isBinary(exchange, query.get("format"));
+                if (isExact(query.get("solver"))) {
+                    int timeout = parseInt(query, "timeout", 0);
+                    if (timeout < 0) {
+                        throw new IllegalArgumentException("Parameter timeout must not be negative");
+                    }
+                    int endX = parseInt(query, "ex", -1);
+                    int endY = parseInt(query, "ey", -1);
+                    if ((endX < 0) != (endY < 0)) {
+                        throw new IllegalArgumentException("Parameters ex and ey must be given together");
+                    }
+                    result = service.solveExact(width, height, moveSet, x, y, endX, endY, mode, timeout);
+                } else if (query.containsKey("ex") || query.containsKey("ey") || query.containsKey("timeout")) {
+                    throw new IllegalArgumentException("Parameters ex, ey and timeout need solver=exact");
+                } else {
+                    result = service.solve(width, height, moveSet, x, y, mode);
+                }
+            } catch (IllegalArgumentException e) {
+                sendText(exchange, 400, e.getMessage());
+                return;
+            }
+
+            if (binary) {
+                sendBinary(exchange, result);
+            } else {
+                sendJson(exchange, result, moveSet);
+            }
+        }
+    }
+
+    /**
+     * Handles {@code /metrics}.
+     *
+     * @param exchange The HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!checkGet(exchange)) {
+                return;
+            }
+            SolverTotals totals = service.getTotals();
+            String text = "requests " + service.getRequests() + "\n"
+                    + "coalesced " + service.getCoalesced() + "\n"
+                    + "cache_hits " + service.getCache().getHits() + "\n"
+                    + "cache_misses " + service.getCache().getMisses() + "\n"
+                    + "cache_evictions " + service.getCache().getEvictions() + "\n"
+                    + "impossible " + service.getImpossible() + "\n"
+                    + "searches " + totals.getRuns() + "\n"
+                    + "searches_complete " + totals.getCompletedRuns() + "\n"
+                    + "nodes " + totals.getNodes() + "\n"
+                    + "degree_evaluations " + totals.getDegreeEvaluations() + "\n"
+                    + "ties " + totals.getTies() + "\n"
+                    + "backtracks " + totals.getBacktracks() + "\n"
+                    + "deepest_dead_end " + totals.getDeadEndDepth() + "\n"
+                    + "wall_nanos " + totals.getWallNanos() + "\n"
+                    + "cpu_nanos " + totals.getCpuNanos();
+            sendText(exchange, 200, text);
+        }
+    }
+
+    /**
+     * Rejects every method but GET (and HEAD) and discards the request body.
+     *
+     * @param exchange The HTTP exchange
+     * @return true if the request may be answered
+     * @throws IOException if the response cannot be written
+     */
+    private static boolean checkGet(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        String method = exchange.getRequestMethod();
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+            sendText(exchange, 405, "Method not allowed");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Streams a result as JSON, without building the whole document in memory.
+     *
+     * @param exchange The HTTP exchange
+     * @param result   The result to send
+     * @param moveSet  The moves of the piece
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendJson(HttpExchange exchange, TourResult result, MoveSet moveSet) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        // Length 0 selects chunked encoding
+        exchange.sendResponseHeaders(200, 0);
+
+        MoveSequence path = result.getPath();
+        StringBuilder text = new StringBuilder(BUFFER_SIZE);
+        text.append("{\"width\":").append(result.getWidth())
+                .append(",\"height\":").append(result.getHeight())
+                .append(",\"piece\":\"").append(moveSet).append('"')
+                .append(",\"mode\":\"").append(result.getMode().name().toLowerCase()).append('"')
+                .append(",\"start\":").append(result.getStart())
+                .append(",\"complete\":").append(result.isComplete())
+                .append(",\"impossible\":").append(result.isImpossible())
+                .append(",\"length\":").append(result.getLength())
+                .append(",\"nodes\":").append(result.getNodes())
+                .append(",\"path\":[");
+        try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), BUFFER_SIZE)) {
+            for (int i = 0; i < path.size(); i++) {
+                if (i > 0) {
+                    text.append(',');
+                }
+                text.append(path.get(i));
+                if (text.length() >= BUFFER_SIZE - 16) {
+                    writeAscii(out, text);
+                }
+            }
+            text.append("]}");
+            writeAscii(out, text);
+        }
+    }
+
+    /**
+     * Writes ASCII text and clears the builder.
+     *
+     * @param out  The stream to write to
+     * @param text The text to write
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeAscii(OutputStream out, StringBuilder text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            out.write(text.charAt(i));
+        }
+        text.setLength(0);
+    }
+
+    /**
+     * Sends a result as a binary record.
+     *
+     * @param exchange The HTTP exchange
+     * @param result   The result to send
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendBinary(HttpExchange exchange, TourResult result) throws IOException {
+        MoveSequence path = result.getPath();
+        int bytesPerSquare = (long) result.getWidth() * result.getHeight() <= 0x10000 ? 2 : 4;
+        ByteBuffer buffer = ByteBuffer.allocate(BINARY_HEADER_SIZE + path.size() * bytesPerSquare);
+        buffer.putInt(result.getWidth())
+                .putInt(result.getHeight())
+                .putInt(result.getStart())
+                .put((byte) (result.getMode() == TourMode.CLOSED ? 1 : 0))
+                .put((byte) bytesPerSquare)
+                .put((byte) (result.isComplete() ? 1 : 0))
+                .put((byte) (result.isImpossible() ? 1 : 0))
+                .putInt(path.size());
+        for (int i = 0; i < path.size(); i++) {
+            if (bytesPerSquare == 2) {
+                buffer.putShort((short) path.get(i));
+            } else {
+                buffer.putInt(path.get(i));
+            }
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, buffer.capacity());
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(buffer.array());
+        }
+    }
+
+    /**
+     * Sends a short plain-text response.
+     *
+     * @param exchange The HTTP exchange
+     * @param status   The HTTP status code
+     * @param text     The response text, without the final newline
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = (text + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Decides between the binary and the JSON response.
+     *
+     * @param exchange The HTTP exchange
+     * @param format   The {@code format} parameter, or null
+     * @return true for a binary response
+     * @throws IllegalArgumentException if the format is unknown
+     */
+    private static boolean isBinary(HttpExchange exchange, String format) {
+        if (format != null) {
+            if (!format.equals("json") && !format.equals("binary")) {
+                throw new IllegalArgumentException("Unknown format: " + format);
+            }
+            return format.equals("binary");
+        }
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        return accept != null && accept.contains("application/octet-stream");
+    }
+
+    /**
+     * Parses the {@code piece} parameter, which may combine at most
+     * {@link TourService#MAX_LEAPERS} leapers.
+     *
+     * @param piece The {@code piece} parameter
+     * @return The moves of the piece
+     * @throws IllegalArgumentException if the piece is malformed or combines too many leapers
+     */
+    private static MoveSet parsePiece(String piece) {
+        if (piece.split("\\+", -1).length > TourService.MAX_LEAPERS) {
+            throw new IllegalArgumentException("Piece must combine at most " + TourService.MAX_LEAPERS + " leapers");
+        }
+        return MoveSet.parse(piece);
+    }
+
+    /**
+     * Decides between the heuristic and the exact solver.
+     *
+     * @param solver The {@code solver} parameter, or null
+     * @return true for the exact solver
+     * @throws IllegalArgumentException if the solver is unknown
+     */
+    private static boolean isExact(String solver) {
+        if (solver != null && !solver.equals("heuristic") && !solver.equals("exact")) {
+            throw new IllegalArgumentException("Unknown solver: " + solver);
+        }
+        return "exact".equals(solver);
+    }
+
+    /**
+     * Splits a raw query string into decoded parameters; the last value of a repeated name wins.
+     *
+     * @param rawQuery The query string, or null
+     * @return The parameters
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Reads an integer parameter.
+     *
+     * @param query        The parameters
+     * @param name         The parameter name
+     * @param defaultValue The value if the parameter is missing
+     * @return The value
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    private static int parseInt(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + name + " must be an integer: " + value);
+        }
+    }
+
+    /**
+     * Reads a boolean parameter; a bare name, {@code true} and {@code 1} are true.
+     *
+     * @param query The parameters
+     * @param name  The parameter name
+     * @return The value, false if the parameter is missing
+     */
+    private static boolean parseBoolean(Map<String, String> query, String name) {
+        String value = query.get(name);
+        return value != null && (value.isEmpty() || value.equals("true") || value.equals("1"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.knighttour.server;
+
+import com.example.knighttour.model.BacktrackingSolver;
+import com.example.knighttour.model.HamiltonianSolver;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Headless entry point that serves tours over HTTP, without starting the JavaFX UI.
+ * <p>
+ * Usage: {@code TourServerApp [--port=PORT] [--host=HOST] [--threads=K] [--budget=NODES]
+ * [--cache-squares=N] [--portfolio=K] [--time-limit=MS]}
+ * <p>
+ * The server listens on localhost port 8080 unless told otherwise and runs up to one
+ * search per core ({@code --threads}); see {@link TourServer} for the endpoints. Exact
+ * searches run {@code --portfolio} strategies each and stop after {@code --time-limit}
+ * milliseconds at most, whatever the request asks for.
+ */
+public class TourServerApp {
+    private static final int DEFAULT_PORT = 8080;
+    // Upper bound on the squares held by the shared tour cache
+    private static final long DEFAULT_CACHE_SQUARES = 64L * 1024 * 1024;
+
+    /**
+     * Main entry point for the tour server.
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        String host = "localhost";
+        int port = DEFAULT_PORT;
+        long budget = BacktrackingSolver.DEFAULT_NODE_BUDGET;
+        long cacheSquares = DEFAULT_CACHE_SQUARES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int portfolio = 1;
+        long timeLimit = HamiltonianSolver.DEFAULT_TIME_LIMIT_MILLIS;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--port=")) {
+                    port = Integer.parseInt(arg.substring("--port=".length()));
+                } else if (arg.startsWith("--host=")) {
+                    host = arg.substring("--host=".length());
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(arg.substring("--threads=".length()));
+                    if (threads <= 0) {
+                        throw new IllegalArgumentException("--threads needs a positive number of threads");
+                    }
+                } else if (arg.startsWith("--budget=")) {
+                    budget = Long.parseLong(arg.substring("--budget=".length()));
+                    if (budget <= 0) {
+                        throw new IllegalArgumentException("--budget needs a positive number of nodes");
+                    }
+                } else if (arg.startsWith("--cache-squares=")) {
+                    cacheSquares = Long.parseLong(arg.substring("--cache-squares=".length()));
+                    if (cacheSquares <= 0) {
+                        throw new IllegalArgumentException("--cache-squares needs a positive number of squares");
+                    }
+                } else if (arg.startsWith("--portfolio=")) {
+                    portfolio = Integer.parseInt(arg.substring("--portfolio=".length()));
+                    if (portfolio <= 0) {
+                        throw new IllegalArgumentException("--portfolio needs a positive number of strategies");
+                    }
+                } else if (arg.startsWith("--time-limit=")) {
+                    timeLimit = Long.parseLong(arg.substring("--time-limit=".length()));
+                    if (timeLimit <= 0) {
+                        throw new IllegalArgumentException("--time-limit needs a positive number of milliseconds");
+                    }
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.err.println("Usage: TourServerApp [--port=PORT] [--host=HOST] [--threads=K] [--budget=NODES]"
+                    + " [--cache-squares=N] [--portfolio=K] [--time-limit=MS]");
+            System.exit(2);
+            return;
+        }
+
+        TourService service;
+        TourServer server;
+        try {
+            service = new TourService(cacheSquares, budget, threads, portfolio, timeLimit);
+            server = new TourServer(new InetSocketAddress(host, port), service);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Cannot start server: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            service.shutdown();
+        }));
+        server.start();
+        System.out.println("Serving tours on http://" + host + ":" + server.getPort() + "/tour");
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.knighttour.server;
+
+import com.example.knighttour.model.BacktrackingSolver;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.CachingSolver;
+import com.example.knighttour.model.HamiltonianSolver;
+import com.example.knighttour.model.MoveSet;
+import com.example.knighttour.model.SolverTotals;
+import com.example.knighttour.model.TourCache;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+import com.example.knighttour.model.TourSolver;
+import com.example.knighttour.model.WarnsdorffSolver;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe tour computation behind the HTTP server.
+ * <p>
+ * Searches run on a fixed pool of platform threads, one per core, while the calling
+ * (typically virtual) threads only wait for them; CPU-bound searches on virtual threads
+ * would hold on to their carriers and delay new requests. Concurrent requests for the
+ * same board, piece, start square and mode are coalesced: the first request starts a
+ * search, and every request that arrives while it runs waits for and shares its result.
+ * Complete tours are kept in a shared {@link TourCache}, so later requests for the same
+ * start, or for any of its symmetric images, are answered without searching. Open tours
+ * use plain Warnsdorff and closed tours the {@link BacktrackingSolver}, as in the batch
+ * solver.
+ * <p>
+ * {@link #solveExact} uses the {@link HamiltonianSolver} instead, which settles whether a
+ * tour exists, optionally with a fixed end square, within a time limit capped by the
+ * service. Its portfolio strategies run on a separate pool, so a search thread waiting
+ * for them never holds up the strategies themselves.
+ */
+public class TourService {
+    /** Largest number of squares of a board the service will solve. */
+    public static final int MAX_SQUARES = 1_000_000;
+    /** Largest number of moves the service precomputes for a board: squares times moves per square. */
+    public static final long MAX_MOVES = 8L * MAX_SQUARES;
+    /** Largest number of leapers a requested piece may combine. */
+    public static final int MAX_LEAPERS = 4;
+
+    private final TourCache cache;
+    private final long nodeBudget;
+    private final ExecutorService searchPool;
+    private final ExecutorService portfolioPool;
+    private final int portfolio;
+    private final long maxTimeLimitMillis;
+    private final Map<Key, CompletableFuture<TourResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final SolverTotals totals = new SolverTotals();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder impossible = new LongAdder();
+
+    /**
+     * Creates a service.
+     *
+     * @param cacheSquares The maximum total number of squares held in the tour cache
+     * @param nodeBudget   The node budget of each closed tour search
+     * @param parallelism  The number of searches that may run at the same time
+     */
+    public TourService(long cacheSquares, long nodeBudget, int parallelism) {
+        this(cacheSquares, nodeBudget, parallelism, 1, HamiltonianSolver.DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    /**
+     * Creates a service with settings for exact searches.
+     *
+     * @param cacheSquares       The maximum total number of squares held in the tour cache
+     * @param nodeBudget         The node budget of each closed tour search
+     * @param parallelism        The number of searches that may run at the same time
+     * @param portfolio          The number of strategies of each exact search
+     * @param maxTimeLimitMillis The longest time an exact search may run, in milliseconds
+     * @throws IllegalArgumentException if the portfolio or the time limit is not positive
+     */
+    public TourService(long cacheSquares, long nodeBudget, int parallelism, int portfolio, long maxTimeLimitMillis) {
+        if (portfolio <= 0 || maxTimeLimitMillis <= 0) {
+            throw new IllegalArgumentException("Portfolio and time limit must be positive");
+        }
+        this.cache = new TourCache(cacheSquares);
+        this.nodeBudget = nodeBudget;
+        this.portfolio = portfolio;
+        this.maxTimeLimitMillis = maxTimeLimitMillis;
+        this.searchPool = newPool(parallelism, "tour-search-");
+        this.portfolioPool = portfolio > 1 ? newPool(parallelism, "tour-portfolio-") : null;
+    }
+
+    /**
+     * Creates a fixed pool of daemon threads.
+     *
+     * @param threads The number of threads
+     * @param prefix  The thread name prefix
+     * @return The pool
+     */
+    private static ExecutorService newPool(int threads, String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Finds a tour, sharing the search with concurrent identical requests.
+     *
+     * @param width   The number of columns
+     * @param height  The number of rows
+     * @param moveSet The moves of the piece
+     * @param x       The x-coordinate (column) of the start square
+     * @param y       The y-coordinate (row) of the start square
+     * @param mode    The requested kind of tour
+     * @return The search result, which may be an incomplete path
+     * @throws IllegalArgumentException if the board is too large or the start is off the board
+     */
+    public TourResult solve(int width, int height, MoveSet moveSet, int x, int y, TourMode mode) {
+        BoardGraph graph = board(width, height, moveSet);
+        if (!graph.isWithinBounds(x, y)) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        int start = graph.squareOf(x, y);
+        return submit(new Key(width, height, moveSet, start, -1, mode, false),
+                () -> createSolver(mode).solve(graph, start, mode));
+    }
+
+    /**
+     * Finds a tour with the exact solver, or proves that there is none, sharing the search
+     * with concurrent identical requests whatever their time limits.
+     *
+     * @param width           The number of columns
+     * @param height          The number of rows
+     * @param moveSet         The moves of the piece
+     * @param x               The x-coordinate (column) of the start square
+     * @param y               The y-coordinate (row) of the start square
+     * @param endX            The x-coordinate of the last square, or -1 for any
+     * @param endY            The y-coordinate of the last square, or -1 for any
+     * @param mode            The requested kind of tour
+     * @param timeLimitMillis The time limit in milliseconds, capped by the service; 0 for the cap
+     * @return The search result; {@link TourResult#isImpossible()} is set if no tour exists
+     * @throws IllegalArgumentException if the board is too large or a square is off the board
+     */
+    public TourResult solveExact(int width, int height, MoveSet moveSet, int x, int y, int endX, int endY,
+                                 TourMode mode, long timeLimitMillis) {
+        BoardGraph graph = board(width, height, moveSet);
+        if (!graph.isWithinBounds(x, y)) {
+            throw new IllegalArgumentException("Position is outside board boundaries");
+        }
+        boolean anyEnd = endX < 0 && endY < 0;
+        if (!anyEnd && !graph.isWithinBounds(endX, endY)) {
+            throw new IllegalArgumentException("End position is outside board boundaries");
+        }
+        int start = graph.squareOf(x, y);
+        int end = anyEnd ? -1 : graph.squareOf(endX, endY);
+        long timeLimit = timeLimitMillis <= 0 ? maxTimeLimitMillis : Math.min(timeLimitMillis, maxTimeLimitMillis);
+        return submit(new Key(width, height, moveSet, start, end, mode, true), () -> {
+            HamiltonianSolver exact = new HamiltonianSolver(portfolio, timeLimit, portfolioPool);
+            // Cached tours may end anywhere, so they only answer searches without a fixed end
+            TourResult result = end < 0
+                    ? new CachingSolver(cache, exact).solve(graph, start, mode)
+                    : exact.solve(graph, start, end, mode);
+            if (result.isImpossible()) {
+                impossible.increment();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Gets the graph of a board, through the size-bounded cache of {@link BoardGraph}.
+     *
+     * @throws IllegalArgumentException if the board is empty or too large, or has too many moves
+     */
+    private static BoardGraph board(int width, int height, MoveSet moveSet) {
+        if (width <= 0 || height <= 0 || (long) width * height > MAX_SQUARES) {
+            throw new IllegalArgumentException("Board must have between 1 and " + MAX_SQUARES + " squares");
+        }
+        if ((long) width * height * moveSet.size() > MAX_MOVES) {
+            throw new IllegalArgumentException("Board must have at most " + MAX_MOVES + " moves; "
+                    + moveSet + " has " + moveSet.size() + " per square");
+        }
+        return BoardGraph.of(width, height, moveSet);
+    }
+
+    /**
+     * Runs a search on the search pool, or joins the identical search already running.
+     *
+     * @param key    The identity of the search
+     * @param search Runs the search on a pool thread
+     * @return The search result
+     */
+    private TourResult submit(Key key, Supplier<TourResult> search) {
+        requests.increment();
+        CompletableFuture<TourResult> own = new CompletableFuture<>();
+        CompletableFuture<TourResult> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        searchPool.execute(() -> {
+            try {
+                TourResult result = search.get();
+                totals.add(result);
+                own.complete(result);
+            } catch (Throwable e) {
+                own.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, own);
+            }
+        });
+        return await(own);
+    }
+
+    /**
+     * Waits for a search and rethrows its failure unwrapped.
+     *
+     * @param search The running search
+     * @return The search result
+     */
+    private static TourResult await(CompletableFuture<TourResult> search) {
+        try {
+            return search.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Stops the search threads. Searches already started are finished.
+     */
+    public void shutdown() {
+        searchPool.shutdown();
+        if (portfolioPool != null) {
+            portfolioPool.shutdown();
+        }
+    }
+
+    /**
+     * Creates a solver for one search. Solvers are cheap and not thread-safe, so every
+     * search gets its own; the cache is shared.
+     *
+     * @param mode The requested kind of tour
+     * @return The solver
+     */
+    private TourSolver createSolver(TourMode mode) {
+        TourSolver search = mode == TourMode.CLOSED
+                ? new BacktrackingSolver(BacktrackingSolver.TieBreak.CENTRE_DISTANCE, nodeBudget)
+                : new WarnsdorffSolver();
+        return new CachingSolver(cache, search);
+    }
+
+    // Statistics
+
+    /**
+     * Gets the solver metrics summed over every search, cache hits included.
+     *
+     * @return The totals
+     */
+    public SolverTotals getTotals() {
+        return totals;
+    }
+
+    /**
+     * Gets the number of tour requests served or in progress.
+     *
+     * @return The request count
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Gets the number of requests that shared the search of an identical request.
+     *
+     * @return The coalesced request count
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the number of exact searches that proved that no tour exists.
+     *
+     * @return The count of impossible requests
+     */
+    public long getImpossible() {
+        return impossible.sum();
+    }
+
+    /**
+     * Gets the shared tour cache.
+     *
+     * @return The cache
+     */
+    public TourCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Identity of a search: board dimensions, piece, start and end squares, tour mode and solver.
+     */
+    private static final class Key {
+        private final int width;
+        private final int height;
+        private final MoveSet moveSet;
+        private final int start;
+        private final int end;
+        private final TourMode mode;
+        private final boolean exact;
+
+        Key(int width, int height, MoveSet moveSet, int start, int end, TourMode mode, boolean exact) {
+            this.width = width;
+            this.height = height;
+            this.moveSet = moveSet;
+            this.start = start;
+            this.end = end;
+            this.mode = mode;
+            this.exact = exact;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width && height == other.height && moveSet.equals(other.moveSet)
+                    && start == other.start && end == other.end && mode == other.mode && exact == other.exact;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(width, height, moveSet, start, end, mode, exact);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.knighttour.store;
+
+import com.example.knighttour.model.TourMode;
+
+/**
+ * Layout of the binary tour store. All values are big-endian.
+ * <pre>
+ * file header   int magic "KTRS", short version, short reserved, int tour count,
+ *               long index offset, int reserved                              (24 bytes)
+ * tour record   int width, int height, int start, byte mode (0 open, 1 closed),
+ *               byte bytes per square (2 or 4), short reserved, int length   (20 bytes)
+ *               followed by length packed squares (y * width + x)
+ * index entry   int width, int height, int start, byte mode, 3 bytes padding,
+ *               long record offset                                           (24 bytes)
+ * </pre>
+ * Records follow the file header back to back; the index is written after the last record.
+ */
+final class TourFile {
+    static final int MAGIC = 0x4B545253;
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 24;
+    static final int RECORD_HEADER_SIZE = 20;
+    static final int INDEX_ENTRY_SIZE = 24;
+
+    /** Largest board side that fits in a lookup key. */
+    static final int MAX_SIDE = 0x7FFF;
+
+    private TourFile() {
+    }
+
+    /**
+     * Chooses the smallest square encoding for a board.
+     *
+     * @param width  The board width
+     * @param height The board height
+     * @return 2 if every packed square fits in an unsigned short, 4 otherwise
+     */
+    static int bytesPerSquare(int width, int height) {
+        return (long) width * height <= 0x10000 ? 2 : 4;
+    }
+
+    /**
+     * Packs a lookup key into a long. Board sides are limited to {@link #MAX_SIDE} squares.
+     *
+     * @param width  The board width
+     * @param height The board height
+     * @param start  The packed start square
+     * @param mode   The tour mode
+     * @return The packed key
+     */
+    static long key(int width, int height, int start, TourMode mode) {
+        return ((long) width << 48) | ((long) height << 33) | ((start & 0xFFFFFFFFL) << 1) | mode.ordinal();
+    }
+}
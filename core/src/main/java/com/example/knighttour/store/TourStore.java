@@ -0,0 +1,177 @@
+package com.example.knighttour.store;
+
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.TourMode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only, memory-mapped view of a tour store written by {@link TourStoreWriter}.
+ * Opening a store only reads its index; tour data is paged in by the operating
+ * system when a tour is loaded. Files up to 2 GB are mapped once as a whole; larger
+ * files map each record on demand. Loading is thread-safe.
+ */
+public class TourStore implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final long size;
+    private final Map<Long, Long> offsets = new HashMap<>();
+
+    private TourStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.mapped = size <= Integer.MAX_VALUE ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size) : null;
+
+        if (size < TourFile.HEADER_SIZE) {
+            throw new IOException("Not a tour store");
+        }
+        ByteBuffer header = map(0, TourFile.HEADER_SIZE);
+        if (header.getInt() != TourFile.MAGIC) {
+            throw new IOException("Not a tour store");
+        }
+        short version = header.getShort();
+        if (version != TourFile.VERSION) {
+            throw new IOException("Unsupported tour store version " + version);
+        }
+        header.getShort();
+        int count = header.getInt();
+        long indexOffset = header.getLong();
+        if (count < 0) {
+            throw new IOException("Corrupt tour store index");
+        }
+
+        ByteBuffer index = map(indexOffset, (long) count * TourFile.INDEX_ENTRY_SIZE);
+        for (int i = 0; i < count; i++) {
+            int width = index.getInt();
+            int height = index.getInt();
+            int start = index.getInt();
+            int modeIndex = index.get();
+            if (modeIndex < 0 || modeIndex >= TourMode.values().length) {
+                throw new IOException("Corrupt tour store index: unknown mode " + modeIndex);
+            }
+            TourMode mode = TourMode.values()[modeIndex];
+            index.position(index.position() + 3);
+            offsets.put(TourFile.key(width, height, start, mode), index.getLong());
+        }
+    }
+
+    /**
+     * Opens a store file.
+     *
+     * @param path The file to open
+     * @return The opened store
+     * @throws IOException if the file cannot be read or is not a tour store
+     */
+    public static TourStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new TourStore(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether a tour is stored.
+     *
+     * @param width  The board width
+     * @param height The board height
+     * @param start  The packed start square
+     * @param mode   The tour mode
+     * @return true if the store holds such a tour
+     */
+    public boolean contains(int width, int height, int start, TourMode mode) {
+        return offsets.containsKey(TourFile.key(width, height, start, mode));
+    }
+
+    /**
+     * Loads a tour of a square board.
+     *
+     * @param boardSize The size of the chess board
+     * @param start     The packed start square
+     * @param mode      The tour mode
+     * @return The tour, or null if it is not stored
+     * @throws IOException if the record cannot be read
+     */
+    public MoveSequence load(int boardSize, int start, TourMode mode) throws IOException {
+        return load(boardSize, boardSize, start, mode);
+    }
+
+    /**
+     * Loads a tour.
+     *
+     * @param width  The board width
+     * @param height The board height
+     * @param start  The packed start square
+     * @param mode   The tour mode
+     * @return The tour, or null if it is not stored
+     * @throws IOException if the record cannot be read
+     */
+    public MoveSequence load(int width, int height, int start, TourMode mode) throws IOException {
+        Long offset = offsets.get(TourFile.key(width, height, start, mode));
+        if (offset == null) {
+            return null;
+        }
+
+        ByteBuffer header = map(offset, TourFile.RECORD_HEADER_SIZE);
+        header.position(13);
+        int bytesPerSquare = header.get();
+        header.getShort();
+        int length = header.getInt();
+        if ((bytesPerSquare != 2 && bytesPerSquare != 4) || length < 0) {
+            throw new IOException("Corrupt tour store record at offset " + offset);
+        }
+
+        ByteBuffer data = map(offset + TourFile.RECORD_HEADER_SIZE, (long) length * bytesPerSquare);
+        int[] squares = new int[length];
+        if (bytesPerSquare == 2) {
+            for (int i = 0; i < length; i++) {
+                squares[i] = data.getShort() & 0xFFFF;
+            }
+        } else {
+            data.asIntBuffer().get(squares);
+        }
+        return MoveSequence.wrap(width, squares);
+    }
+
+    /**
+     * Gets a buffer over a region of the file, positioned at its start.
+     *
+     * @param offset The file offset of the region
+     * @param length The length of the region in bytes
+     * @return A buffer private to the caller
+     * @throws IOException if the region is outside the file or cannot be mapped
+     */
+    private ByteBuffer map(long offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IOException("Corrupt tour store: region " + offset + "+" + length + " is outside the file");
+        }
+        if (mapped != null) {
+            return mapped.slice((int) offset, (int) length);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+
+    /**
+     * Gets the number of stored tours.
+     *
+     * @return The tour count
+     */
+    public int size() {
+        return offsets.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.knighttour.store;
+
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.TourMode;
+import com.example.knighttour.model.TourResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes tours to a binary store file readable by {@link TourStore}.
+ * Records are streamed through a fixed-size buffer, so tours of any length can be
+ * written without a second copy in memory. The index and header are written on
+ * {@link #close()}. Writes are synchronized, so solver threads may share one writer.
+ */
+public class TourStoreWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private ByteBuffer index = ByteBuffer.allocate(TourFile.INDEX_ENTRY_SIZE * 64);
+    private int count;
+
+    /**
+     * Creates a new store file, replacing any existing file.
+     *
+     * @param path The file to write
+     * @throws IOException if the file cannot be created
+     */
+    public TourStoreWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(TourFile.HEADER_SIZE);
+    }
+
+    /**
+     * Writes a complete tour. Incomplete results are skipped.
+     *
+     * @param result The search result to store
+     * @throws IOException if writing fails
+     */
+    public void write(TourResult result) throws IOException {
+        if (result.isComplete()) {
+            write(result.getWidth(), result.getHeight(), result.getMode(), result.getPath());
+        }
+    }
+
+    /**
+     * Writes a tour.
+     *
+     * @param width  The board width
+     * @param height The board height
+     * @param mode   Whether the tour is open or closed
+     * @param tour   The packed squares in visiting order
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if a board side exceeds 32767 squares
+     */
+    public synchronized void write(int width, int height, TourMode mode, MoveSequence tour) throws IOException {
+        if (width > TourFile.MAX_SIDE || height > TourFile.MAX_SIDE) {
+            throw new IllegalArgumentException("Board sides above " + TourFile.MAX_SIDE + " cannot be stored");
+        }
+        long offset = channel.position();
+        int bytesPerSquare = TourFile.bytesPerSquare(width, height);
+
+        buffer.clear();
+        buffer.putInt(width).putInt(height).putInt(tour.get(0))
+                .put((byte) mode.ordinal()).put((byte) bytesPerSquare).putShort((short) 0)
+                .putInt(tour.size());
+        for (int i = 0; i < tour.size(); i++) {
+            if (buffer.remaining() < bytesPerSquare) {
+                flush();
+            }
+            if (bytesPerSquare == 2) {
+                buffer.putShort((short) tour.get(i));
+            } else {
+                buffer.putInt(tour.get(i));
+            }
+        }
+        flush();
+
+        if (index.remaining() < TourFile.INDEX_ENTRY_SIZE) {
+            ByteBuffer larger = ByteBuffer.allocate(index.capacity() * 2);
+            index.flip();
+            larger.put(index);
+            index = larger;
+        }
+        index.putInt(width).putInt(height).putInt(tour.get(0))
+                .put((byte) mode.ordinal()).put((byte) 0).putShort((short) 0)
+                .putLong(offset);
+        count++;
+    }
+
+    /**
+     * Writes the buffered bytes to the channel.
+     *
+     * @throws IOException if writing fails
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the index and the file header, then closes the file.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            long indexOffset = channel.position();
+            index.flip();
+            while (index.hasRemaining()) {
+                channel.write(index);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(TourFile.HEADER_SIZE);
+            header.putInt(TourFile.MAGIC).putShort(TourFile.VERSION).putShort((short) 0)
+                    .putInt(count).putLong(indexOffset).putInt(0);
+            header.flip();
+            channel.write(header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+}
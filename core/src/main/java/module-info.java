@@ -0,0 +1,11 @@
+module com.example.knighttour.core {
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
+
+    exports com.example.knighttour.model;
+    exports com.example.knighttour.store;
+    exports com.example.knighttour.batch;
+    exports com.example.knighttour.server;
+    exports com.example.knighttour.export;
+}
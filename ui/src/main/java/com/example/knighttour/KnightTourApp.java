@@ -24,10 +24,14 @@ public class KnightTourApp extends Application {
         // Configure and display the stage
         stage.setTitle("Knight's Tour");
         stage.setScene(scene);
-        stage.setResizable(false);
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        SoundPlayer.shutdown();
+    }
+
     /**
      * Main entry point for the application.
      *
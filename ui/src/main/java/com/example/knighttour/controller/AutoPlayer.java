@@ -0,0 +1,163 @@
+package com.example.knighttour.controller;
+
+import com.example.knighttour.model.BitboardTour;
+import com.example.knighttour.model.BoardGraph;
+import com.example.knighttour.model.KnightTour;
+import com.example.knighttour.model.MoveSequence;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Plays a tour automatically without blocking the JavaFX application thread.
+ * <p>
+ * The moves are computed by a {@link BitboardTour} on a virtual thread, which writes them
+ * into a pre-sized array and publishes the count through a volatile field. Once per
+ * pulse, an {@link AnimationTimer} applies the moves that are due at the current speed
+ * to the model and reports them as one batch, so the view is updated at most once per
+ * frame however fast the tour is played.
+ */
+class AutoPlayer extends AnimationTimer {
+    /** Speed value meaning "as fast as possible". */
+    static final int MAX_SPEED = 0;
+
+    // Upper bound on the moves applied in one pulse, so a frame never takes too long
+    private static final int MAX_MOVES_PER_PULSE = 10_000;
+
+    private final KnightTour knightTour;
+    private final IntConsumer movesApplied;
+    private final Runnable finished;
+
+    private Solver solver;
+    private boolean playing;
+    private int applied;
+    private int movesPerSecond = MAX_SPEED;
+    private long lastPulse;
+    private double credit;
+
+    /**
+     * Creates a new auto player.
+     *
+     * @param knightTour   The model to play the moves on
+     * @param movesApplied Called on the FX thread with the number of moves applied in a pulse
+     * @param finished     Called on the FX thread when the knight cannot move any more
+     */
+    AutoPlayer(KnightTour knightTour, IntConsumer movesApplied, Runnable finished) {
+        this.knightTour = knightTour;
+        this.movesApplied = movesApplied;
+        this.finished = finished;
+    }
+
+    /**
+     * Starts solving from the current position of the model and playing the moves back.
+     */
+    void play() {
+        stop();
+        MoveSequence history = knightTour.getMoveHistory();
+        solver = new Solver(knightTour.getGraph(), history.get(0));
+        applied = history.size();
+        lastPulse = 0;
+        credit = 0;
+        Thread.ofVirtual().name("knight-tour-solver").start(solver);
+        playing = true;
+        start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        playing = false;
+        if (solver != null) {
+            solver.cancelled = true;
+        }
+    }
+
+    /**
+     * Checks whether moves are being played.
+     *
+     * @return true between {@link #play()} and the end of the tour or {@link #stop()}
+     */
+    boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * Sets the playback speed.
+     *
+     * @param movesPerSecond The number of moves per second, or {@link #MAX_SPEED}
+     */
+    void setMovesPerSecond(int movesPerSecond) {
+        this.movesPerSecond = movesPerSecond;
+        credit = 0;
+    }
+
+    @Override
+    public void handle(long now) {
+        // Read the flag before the count, so that every move is seen once it is set
+        boolean done = solver.done;
+        int available = solver.published - applied;
+
+        int budget = Math.min(available, MAX_MOVES_PER_PULSE);
+        if (movesPerSecond != MAX_SPEED) {
+            if (lastPulse != 0) {
+                // Never save up more than one second of moves while waiting for the solver
+                credit = Math.min(credit + (now - lastPulse) * movesPerSecond / 1e9, movesPerSecond);
+            }
+            budget = Math.min(budget, (int) credit);
+            credit -= budget;
+        }
+        lastPulse = now;
+
+        int width = knightTour.getBoard().getWidth();
+        int[] squares = solver.squares;
+        for (int i = applied; i < applied + budget; i++) {
+            knightTour.moveTo(squares[i] % width, squares[i] / width);
+        }
+        applied += budget;
+        if (budget > 0) {
+            movesApplied.accept(budget);
+        }
+
+        if (done && applied == solver.published) {
+            stop();
+            finished.run();
+        }
+    }
+
+    /**
+     * Computes the tour on a background thread. The squares before the current position
+     * of the model are recomputed rather than copied: {@link BitboardTour} makes the same
+     * choices as {@link KnightTour}, so they are identical.
+     */
+    private static class Solver implements Runnable {
+        private final BoardGraph graph;
+        private final int start;
+        private final int[] squares;
+        private volatile int published;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        Solver(BoardGraph graph, int start) {
+            this.graph = graph;
+            this.start = start;
+            this.squares = new int[graph.getOpenSquareCount()];
+        }
+
+        @Override
+        public void run() {
+            try {
+                BitboardTour engine = new BitboardTour(graph, false);
+                engine.start(start);
+                squares[0] = start;
+                int count = 1;
+                published = count;
+                while (!cancelled && engine.makeNextMove()) {
+                    squares[count++] = engine.getCurrentSquare();
+                    published = count;
+                }
+            } finally {
+                done = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.knighttour.controller;
+
+import com.example.knighttour.model.KnightTour;
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.SolverMetrics;
+import com.example.knighttour.util.MoveLogger;
+import com.example.knighttour.util.SoundPlayer;
+import com.example.knighttour.view.InitialPositionDialog;
+import com.example.knighttour.view.MoveHistoryList;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.util.Pair;
+import java.util.Optional;
+
+/**
+ * Controller class for the Knight's Tour application.
+ * This class manages the game state and coordinates between the model and view.
+ */
+public class KnightTourController {
+    /** Auto-play speed meaning "as fast as possible". */
+    public static final int MAX_SPEED = AutoPlayer.MAX_SPEED;
+
+    private final KnightTour knightTour;
+    private final Label statusLabel;
+    private final ListView<String> moveHistoryView;
+    private final MoveHistoryList moveHistoryList;
+    private final Runnable boardUpdateCallback;
+    private final AutoPlayer autoPlayer;
+    private Runnable autoPlayStoppedCallback = () -> { };
+
+    /**
+     * Creates a new Knight's Tour controller.
+     *
+     * @param boardSize           The size of the chess board
+     * @param statusLabel         The label to display game status
+     * @param moveHistoryView     The list view to display move history
+     * @param boardUpdateCallback A callback to trigger board redrawing
+     */
+    public KnightTourController(
+            int boardSize,
+            Label statusLabel,
+            ListView<String> moveHistoryView,
+            Runnable boardUpdateCallback
+    ) {
+        this.knightTour = new KnightTour(boardSize);
+        this.statusLabel = statusLabel;
+        this.moveHistoryView = moveHistoryView;
+        this.moveHistoryList = new MoveHistoryList(knightTour);
+        moveHistoryView.setItems(moveHistoryList);
+        this.boardUpdateCallback = boardUpdateCallback;
+        this.autoPlayer = new AutoPlayer(knightTour, this::onMovesPlayed, this::onAutoPlayFinished);
+
+        // Get initial position from user
+        Optional<Pair<Integer, Integer>> initialPosition = InitialPositionDialog.showDialog(boardSize);
+        if (initialPosition.isPresent()) {
+            Pair<Integer, Integer> position = initialPosition.get();
+            knightTour.setInitialPosition(position.getKey(), position.getValue());
+        }
+
+        // Set initial status
+        updateStatus();
+        updateMoveHistory(0);
+    }
+
+    /**
+     * Performs the next move in the Knight's Tour.
+     */
+    public void makeNextMove() {
+        stopAutoPlay();
+        boolean moveMade = knightTour.makeNextMove();
+
+        if (moveMade) {
+            // play move sound
+            SoundPlayer.playMoveSound();
+
+            updateStatus();
+            updateMoveHistory(1);
+            boardUpdateCallback.run();
+        } else {
+            statusLabel.setText(describeEnd());
+        }
+    }
+
+    /**
+     * Starts playing the tour automatically from the current position.
+     * The moves are computed on a background thread and shown in batches, once per frame.
+     */
+    public void startAutoPlay() {
+        autoPlayer.play();
+    }
+
+    /**
+     * Pauses automatic play.
+     */
+    public void stopAutoPlay() {
+        if (autoPlayer.isPlaying()) {
+            autoPlayer.stop();
+            autoPlayStoppedCallback.run();
+        }
+    }
+
+    /**
+     * Sets a callback that runs whenever automatic play stops, including at the end of the tour.
+     *
+     * @param callback The callback to run on the FX thread
+     */
+    public void setAutoPlayStoppedCallback(Runnable callback) {
+        this.autoPlayStoppedCallback = callback;
+    }
+
+    /**
+     * Sets the speed of automatic play.
+     *
+     * @param movesPerSecond The number of moves per second, or {@link #MAX_SPEED} for as fast as possible
+     */
+    public void setAutoPlaySpeed(int movesPerSecond) {
+        autoPlayer.setMovesPerSecond(movesPerSecond);
+    }
+
+    /**
+     * Updates the UI after the auto player applied a batch of moves.
+     *
+     * @param count The number of moves applied
+     */
+    private void onMovesPlayed(int count) {
+        // One sound per batch; a sound per move would be a continuous buzz at high speed
+        SoundPlayer.playMoveSound();
+
+        updateStatus();
+        updateMoveHistory(count);
+        boardUpdateCallback.run();
+    }
+
+    /**
+     * Updates the status when the auto player has played every possible move.
+     */
+    private void onAutoPlayFinished() {
+        statusLabel.setText(describeEnd());
+        autoPlayStoppedCallback.run();
+    }
+
+    /**
+     * Describes why the tour ended, from the metrics of the model.
+     *
+     * @return The status text
+     */
+    private String describeEnd() {
+        if (knightTour.isComplete()) {
+            return "Tour complete! All " + knightTour.getMoveCount() + " squares visited";
+        }
+        SolverMetrics metrics = knightTour.getMetrics();
+        String text = "No more valid moves! Tour ended at move " + knightTour.getMoveCount();
+        if (metrics.getDegreeEvaluations() > 0) {
+            text += " (" + metrics.getDegreeEvaluations() + " candidates evaluated, "
+                    + metrics.getTies() + " ties)";
+        }
+        return text;
+    }
+
+    /**
+     * Updates the status label with the current move information.
+     */
+    private void updateStatus() {
+        statusLabel.setText("Knight's Tour: Move " + knightTour.getMoveCount());
+    }
+
+    /**
+     * Updates the move history list and logs the newest moves.
+     *
+     * @param count The number of new moves to log
+     */
+    private void updateMoveHistory(int count) {
+        moveHistoryList.refresh();
+        moveHistoryView.scrollTo(moveHistoryList.size() - 1);
+
+        if (MoveLogger.isEnabled()) {
+            MoveSequence moves = knightTour.getMoveHistory();
+            for (int i = moves.size() - count; i < moves.size(); i++) {
+                String position = knightTour.getChessNotation(moves.getX(i), moves.getY(i));
+                MoveLogger.log("Move count: " + (i + 1) + ". Knight moved to : " + position);
+            }
+        }
+    }
+
+    /**
+     * Resets the Knight's Tour to its initial state.
+     */
+    public void reset() {
+        stopAutoPlay();
+        knightTour.reset();
+        updateStatus();
+        updateMoveHistory(0);
+        boardUpdateCallback.run();
+    }
+
+    /**
+     * Gets the Knight's Tour model.
+     *
+     * @return The Knight's Tour model
+     */
+    public KnightTour getKnightTour() {
+        return knightTour;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.example.knighttour.util;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional console log of the knight's moves.
+ * Logging is off unless the {@value #ENABLED_PROPERTY} system property is {@code true}.
+ * Messages are queued and written to standard output in batches by a daemon thread,
+ * so the caller never waits for the console. If the queue is full, messages are
+ * dropped and the number of dropped messages is reported instead.
+ */
+public class MoveLogger {
+    /** System property that turns move logging on. */
+    public static final String ENABLED_PROPERTY = "knighttour.logMoves";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final int QUEUE_CAPACITY = 16 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final BlockingQueue<String> queue = new ArrayBlockingQueue<>(ENABLED ? QUEUE_CAPACITY : 1);
+    private static final AtomicLong dropped = new AtomicLong();
+
+    static {
+        if (ENABLED) {
+            Thread writer = new Thread(MoveLogger::writeMessages, "move-logger");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    private MoveLogger() {
+    }
+
+    /**
+     * Checks whether logging is on, so callers can skip formatting messages when it is not.
+     *
+     * @return true if messages are logged
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Queues a message for the console.
+     *
+     * @param message The message to log
+     */
+    public static void log(String message) {
+        if (ENABLED && !queue.offer(message)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writes queued messages until the application exits.
+     */
+    private static void writeMessages() {
+        PrintStream out = new PrintStream(
+                new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE), false);
+        List<String> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                for (String message : batch) {
+                    out.println(message);
+                }
+                batch.clear();
+
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    out.println("(" + lost + " move messages dropped)");
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
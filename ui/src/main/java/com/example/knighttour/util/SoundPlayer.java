@@ -0,0 +1,207 @@
+package com.example.knighttour.util;
+
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Utility class for playing sounds in the application.
+ * <p>
+ * The move sound is an {@link AudioClip}, which is decoded into memory once when it is
+ * loaded. Callers never play it themselves: {@link #playMoveSound()} only raises a flag and
+ * wakes a daemon thread, so it costs the same whether or not a sound follows. Requests that
+ * arrive before the thread gets to them are coalesced into one, sounds are started at
+ * the rate set by the {@value #RATE_PROPERTY} system property at most (default
+ * {@value #DEFAULT_RATE} per second), and no more than {@value #MAX_VOICES} sounds overlap;
+ * requests beyond that are dropped. A voice is busy for the length of the clip, which is
+ * read from its {@link Media} once it is loaded, so the overlap only lowers the rate for
+ * clips longer than {@value #MAX_VOICES} divided by the rate (300 ms at the default rate;
+ * the move sound lasts about 220 ms). Until the length is known, only the rate applies.
+ * <p>
+ * Sound is on unless the {@value #ENABLED_PROPERTY} system property is {@code false}. When
+ * it is off, the clip is never loaded and no thread is started, so the media engine is
+ * not touched at all. While it is on, {@link #setEnabled(boolean)} mutes it at run time.
+ */
+public class SoundPlayer {
+    /** System property that turns sound off when it is {@code false}. */
+    public static final String ENABLED_PROPERTY = "knighttour.sound";
+    /** System property with the most sounds started per second. */
+    public static final String RATE_PROPERTY = "knighttour.soundRate";
+
+    // Constants for volume levels
+    private static final double DEFAULT_VOLUME = 0.7;
+    private static final int DEFAULT_RATE = 20;
+    // Most sounds playing at once
+    private static final int MAX_VOICES = 6;
+
+    private static final boolean AVAILABLE = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    private static final long MIN_INTERVAL_NANOS =
+            TimeUnit.SECONDS.toNanos(1) / Math.max(1, Integer.getInteger(RATE_PROPERTY, DEFAULT_RATE));
+
+    private static final AtomicBoolean pending = new AtomicBoolean();
+    // End times of the sounds started last, one per voice; only used by the audio thread
+    private static final long[] voiceEnds = new long[MAX_VOICES];
+
+    // Sound resources
+    private static AudioClip moveSound;
+    private static volatile Thread audioThread;
+    private static volatile boolean enabled = AVAILABLE;
+    private static volatile double volume = DEFAULT_VOLUME;
+    // Length of the clip, after which a voice is free again; 0 until the clip is loaded
+    private static volatile long voiceNanos;
+
+    private SoundPlayer() {
+    }
+
+    /**
+     * Initializes the sound resources and starts the audio thread.
+     * This method should be called once when the application starts.
+     */
+    public static void initialize() {
+        if (!AVAILABLE || audioThread != null) {
+            return;
+        }
+        try {
+            URL moveSoundUrl = SoundPlayer.class.getResource("/move.mp3");
+
+            if (moveSoundUrl != null) {
+                moveSound = new AudioClip(moveSoundUrl.toExternalForm());
+                readClipLength(moveSoundUrl.toExternalForm());
+            } else {
+                System.err.println("Could not find move sound resource");
+                return;
+            }
+        } catch (Exception e) {
+            System.err.println("Error loading sound resources: " + e.getMessage());
+            return;
+        }
+
+        Thread thread = new Thread(SoundPlayer::playSounds, "sound");
+        thread.setDaemon(true);
+        audioThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Reads the length of the clip in the background; {@link AudioClip} does not report it.
+     *
+     * @param url The location of the clip
+     */
+    private static void readClipLength(String url) {
+        try {
+            Media media = new Media(url);
+            MediaPlayer probe = new MediaPlayer(media);
+            probe.setOnReady(() -> {
+                double millis = media.getDuration().toMillis();
+                if (millis > 0 && !Double.isInfinite(millis)) {
+                    voiceNanos = (long) (millis * 1_000_000);
+                }
+                probe.dispose();
+            });
+            probe.setOnError(probe::dispose);
+        } catch (RuntimeException e) {
+            // The clip still plays; only the rate limits it
+            System.err.println("Could not read the length of the move sound: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Asks for the knight move sound. Returns at once; the sound is played on the audio
+     * thread, or coalesced with other requests, or dropped if too many are playing.
+     */
+    public static void playMoveSound() {
+        Thread thread = audioThread;
+        if (enabled && thread != null && pending.compareAndSet(false, true)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Sets the volume for all sound effects.
+     *
+     * @param volume The volume level (0.0 to 1.0)
+     */
+    public static void setVolume(double volume) {
+        SoundPlayer.volume = volume;
+    }
+
+    /**
+     * Mutes or unmutes sound. Has no effect if sound was turned off with the
+     * {@value #ENABLED_PROPERTY} system property.
+     *
+     * @param enabled Whether sounds are played
+     */
+    public static void setEnabled(boolean enabled) {
+        SoundPlayer.enabled = enabled && AVAILABLE;
+    }
+
+    /**
+     * Checks whether sounds are played.
+     *
+     * @return true if sound is on and not muted
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks whether sound can be turned on, that is, whether the {@value #ENABLED_PROPERTY}
+     * system property allows it.
+     *
+     * @return true if sound is available
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Stops the audio thread and any sound that is playing.
+     */
+    public static void shutdown() {
+        Thread thread = audioThread;
+        if (thread != null) {
+            audioThread = null;
+            thread.interrupt();
+            moveSound.stop();
+        }
+    }
+
+    /**
+     * Plays requested sounds until the thread is interrupted.
+     */
+    private static void playSounds() {
+        long nextStart = System.nanoTime();
+        Arrays.fill(voiceEnds, nextStart);
+        while (!Thread.currentThread().isInterrupted()) {
+            if (!pending.getAndSet(false)) {
+                LockSupport.park();
+                continue;
+            }
+
+            // Requests made while waiting for the next slot are coalesced into the next sound
+            long now = System.nanoTime();
+            while (now - nextStart < 0 && !Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(nextStart - now);
+                now = System.nanoTime();
+            }
+            if (!enabled) {
+                continue;
+            }
+
+            for (int voice = 0; voice < MAX_VOICES; voice++) {
+                if (voiceEnds[voice] - now <= 0) {
+                    voiceEnds[voice] = now + voiceNanos;
+                    moveSound.play(volume);
+                    nextStart = now + MIN_INTERVAL_NANOS;
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -11,7 +11,8 @@ import java.util.Optional;
 public class BoardSizeDialog {
 
     private static final int MIN_BOARD_SIZE = 2;
-    private static final int MAX_BOARD_SIZE = 14;
+    // The board view pans and zooms, so the size is only limited by memory and patience
+    private static final int MAX_BOARD_SIZE = 1000;
 
     /**
      * Shows a dialog that prompts the user for the chess board size
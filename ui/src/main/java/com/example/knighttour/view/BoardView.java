@@ -0,0 +1,744 @@
+package com.example.knighttour.view;
+
+import com.example.knighttour.model.ChessBoard;
+import com.example.knighttour.model.KnightTour;
+import com.example.knighttour.model.MoveSequence;
+import com.example.knighttour.model.MoveSet;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Objects;
+
+/**
+ * View component responsible for rendering the chess board and knight's moves.
+ * <p>
+ * The board is shown through a viewport: the canvases are only as large as the window,
+ * and only the squares, move numbers and path segments inside it are drawn, so even a
+ * 1000x1000 board needs no more canvas than fits on the screen. Drag to pan, scroll to
+ * zoom around the cursor and double-click to fit the whole board. The path segments are
+ * kept in a {@link SegmentIndex}, so finding the visible ones does not depend on the
+ * length of the tour.
+ * <p>
+ * The level of detail follows the zoom. Large squares show move numbers, arrows and the
+ * knight; smaller squares only the path. Below a few pixels per square the board is drawn
+ * from a heat map image with one pixel per square, coloured from blue to red by the move
+ * that visited it, which is scaled to the window when drawn.
+ * <p>
+ * The board is drawn on three stacked canvases: squares, notation and move numbers
+ * at the bottom, move arrows in the middle and the knight on top. After a move only
+ * the new move number, the new arrow and the knight are drawn; panning, zooming and
+ * resets repaint the visible part of the board.
+ */
+public class BoardView {
+    // Square size in pixels when the board fits in the window, and the largest zoom
+    private static final double DEFAULT_SQUARE_SIZE = 80;
+    private static final double MAX_SQUARE_SIZE = 160;
+    // Move numbers and arrowheads are drawn from this square size, the path from the next
+    private static final double DETAIL_SQUARE_SIZE = 32;
+    private static final double PATH_SQUARE_SIZE = 4;
+    private static final double ZOOM_STEP = 1.15;
+    // Width of the notation margin around the board
+    private static final int MARGIN = 20;
+    // Smallest distance between two notation labels
+    private static final double LABEL_SPACING = 30;
+    // Largest initial size of the view; the window can be resized
+    private static final double MAX_VIEW_SIZE = 840;
+    private static final int HEAT_LEVELS = 256;
+
+    private static final Font NOTATION_FONT = new Font("Arial", 14);
+
+    private final Pane root;
+    private final Canvas boardLayer;
+    private final Canvas arrowLayer;
+    private final Canvas knightLayer;
+    private final KnightTour knightTour;
+    private final Image knightImage;
+    private final SegmentIndex segments;
+
+    // One pixel per square, created when first zoomed out that far
+    private WritableImage heatMap;
+
+    // Number of moves of the history that are in the segment index and heat map
+    private int drawnMoves;
+
+    // Screen position of the top-left corner of the board, and the size of a square
+    private double originX;
+    private double originY;
+    private double squareSize;
+    // Whether the view still shows the whole board, so that resizing fits it again
+    private boolean fitted;
+    private double dragX;
+    private double dragY;
+
+    // Visible squares, updated before every drawing pass
+    private int firstCol;
+    private int firstRow;
+    private int lastCol;
+    private int lastRow;
+
+    // Chess board colors
+// Chess.com-inspired board colors
+    private static final Color LIGHT_SQUARE = Color.rgb(235, 236, 208); // Almost pastel green
+    private static final Color DARK_SQUARE = Color.rgb(115, 149, 82);   // Chess.com dark green
+    private static final Color BACKGROUND = Color.rgb(48, 46, 43);   // Soft background tone
+    private static final Color ARROW_COLOR = Color.rgb(255, 140, 0);    // soft gold
+    private static final Color NOTATION_COLOR = Color.rgb(240, 234, 214);
+
+    // Heat map colours, from the first move (blue) to the last (red)
+    private static final int[] HEAT_COLORS = new int[HEAT_LEVELS];
+
+    static {
+        for (int i = 0; i < HEAT_LEVELS; i++) {
+            HEAT_COLORS[i] = argb(Color.hsb(240.0 * (HEAT_LEVELS - 1 - i) / (HEAT_LEVELS - 1), 0.85, 0.95));
+        }
+    }
+
+    /**
+     * Creates a new board view.
+     *
+     * @param knightTour The Knight's Tour model
+     */
+    public BoardView(KnightTour knightTour) {
+        this.knightTour = knightTour;
+        ChessBoard board = knightTour.getBoard();
+        this.segments = new SegmentIndex(board.getWidth(), board.getHeight(), maxMoveLength(knightTour.getMoveSet()));
+
+        double viewWidth = Math.min(board.getWidth() * DEFAULT_SQUARE_SIZE + 2 * MARGIN, MAX_VIEW_SIZE);
+        double viewHeight = Math.min(board.getHeight() * DEFAULT_SQUARE_SIZE + 2 * MARGIN, MAX_VIEW_SIZE);
+
+        // The canvases start at the preferred size and follow the size of the pane
+        this.boardLayer = new Canvas(viewWidth, viewHeight);
+        this.arrowLayer = new Canvas(viewWidth, viewHeight);
+        this.knightLayer = new Canvas(viewWidth, viewHeight);
+        this.root = new Pane(boardLayer, arrowLayer, knightLayer);
+        root.setPrefSize(viewWidth, viewHeight);
+        root.setMinSize(4 * MARGIN, 4 * MARGIN);
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(root.widthProperty());
+        clip.heightProperty().bind(root.heightProperty());
+        root.setClip(clip);
+        root.widthProperty().addListener((observable, oldWidth, newWidth) -> resize());
+        root.heightProperty().addListener((observable, oldHeight, newHeight) -> resize());
+        installViewportHandlers();
+
+        // Load knight image, at the largest zoom so that it is only ever scaled down
+        Image loadedImage = null;
+        try {
+            loadedImage = new Image(
+                    Objects.requireNonNull(getClass().getResourceAsStream("/knight.png")),
+                    MAX_SQUARE_SIZE, MAX_SQUARE_SIZE, true, true
+            );
+        } catch (Exception e) {
+            System.err.println("Failed to load knight image: " + e.getMessage());
+        }
+        this.knightImage = loadedImage;
+
+        // Draw the initial board state
+        fitToView();
+        drawBoard();
+    }
+
+    /**
+     * Gets the node holding the board canvases.
+     *
+     * @return The pane with the stacked canvases
+     */
+    public Pane getNode() {
+        return root;
+    }
+
+    /**
+     * Brings the view up to date with the model.
+     * Moves made since the last call are drawn incrementally; if the tour got shorter
+     * or was restarted, the whole board is repainted.
+     */
+    public void refresh() {
+        MoveSequence moves = knightTour.getMoveHistory();
+        if (moves.size() <= drawnMoves) {
+            forgetMoves();
+            drawBoard();
+            return;
+        }
+
+        int from = drawnMoves;
+        indexNewMoves();
+        updateVisibleRange();
+        if (squareSize < PATH_SQUARE_SIZE) {
+            // The heat map is one image, so redrawing it is as cheap as drawing the new squares
+            drawBoardLayer();
+            drawKnight();
+            return;
+        }
+
+        boolean detail = squareSize >= DETAIL_SQUARE_SIZE;
+        if (detail) {
+            GraphicsContext board = boardLayer.getGraphicsContext2D();
+            setNumberStyle(board);
+            for (int i = from; i < moves.size(); i++) {
+                if (isVisible(moves.getX(i), moves.getY(i))) {
+                    drawMoveNumber(board, moves.getX(i), moves.getY(i), i + 1);
+                }
+            }
+        }
+
+        GraphicsContext arrows = arrowLayer.getGraphicsContext2D();
+        setPathStyle(arrows);
+        arrows.beginPath();
+        for (int i = Math.max(from, 1); i < moves.size(); i++) {
+            if (crossesView(moves, i - 1)) {
+                addSegment(arrows, moves, i - 1, detail);
+            }
+        }
+        arrows.stroke();
+
+        drawKnight();
+    }
+
+    /**
+     * Repaints the visible part of the board: squares, notation, move history and knight.
+     */
+    public void drawBoard() {
+        if (knightTour.getMoveHistory().size() < drawnMoves) {
+            forgetMoves();
+        }
+        indexNewMoves();
+        updateVisibleRange();
+
+        drawBoardLayer();
+        drawMoveArrows();
+        drawKnight();
+    }
+
+    /**
+     * Shows the whole board, with squares no larger than the default size, and repaints it.
+     */
+    public void fitBoard() {
+        fitToView();
+        drawBoard();
+    }
+
+    /**
+     * Zooms around a point of the view and repaints the board. The square under the
+     * point stays where it is.
+     *
+     * @param factor The factor by which squares grow (above 1) or shrink (below 1)
+     * @param x      The x-coordinate of the point in the view
+     * @param y      The y-coordinate of the point in the view
+     */
+    public void zoom(double factor, double x, double y) {
+        double size = Math.max(minSquareSize(), Math.min(MAX_SQUARE_SIZE, squareSize * factor));
+        originX = x - (x - originX) * size / squareSize;
+        originY = y - (y - originY) * size / squareSize;
+        squareSize = size;
+        fitted = false;
+        clampOrigin();
+        drawBoard();
+    }
+
+    /**
+     * Moves the board within the view and repaints it.
+     *
+     * @param dx The horizontal distance in pixels
+     * @param dy The vertical distance in pixels
+     */
+    public void pan(double dx, double dy) {
+        originX += dx;
+        originY += dy;
+        fitted = false;
+        clampOrigin();
+        drawBoard();
+    }
+
+    /**
+     * Connects dragging, scrolling and double-clicking on the board to the viewport.
+     */
+    private void installViewportHandlers() {
+        root.setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        root.setOnMouseDragged(e -> {
+            pan(e.getX() - dragX, e.getY() - dragY);
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        root.setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2 && e.isStillSincePress()) {
+                fitBoard();
+            }
+        });
+        root.setOnScroll(e -> {
+            if (e.getDeltaY() != 0) {
+                zoom(e.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP, e.getX(), e.getY());
+            }
+            e.consume();
+        });
+    }
+
+    /**
+     * Resizes the canvases to the pane, for example when the window is resized, and repaints.
+     */
+    private void resize() {
+        double width = root.getWidth();
+        double height = root.getHeight();
+        if (width <= 0 || height <= 0
+                || (width == boardLayer.getWidth() && height == boardLayer.getHeight())) {
+            return;
+        }
+        for (Canvas layer : new Canvas[]{boardLayer, arrowLayer, knightLayer}) {
+            layer.setWidth(width);
+            layer.setHeight(height);
+        }
+        if (fitted) {
+            fitToView();
+        } else {
+            clampOrigin();
+        }
+        drawBoard();
+    }
+
+    /**
+     * Centres the board in the view at the largest size that shows all of it,
+     * but no larger than the default square size.
+     */
+    private void fitToView() {
+        ChessBoard board = knightTour.getBoard();
+        squareSize = fitSquareSize();
+        originX = (boardLayer.getWidth() - board.getWidth() * squareSize) / 2;
+        originY = (boardLayer.getHeight() - board.getHeight() * squareSize) / 2;
+        fitted = true;
+    }
+
+    /**
+     * Gets the square size at which the whole board fits inside the notation margin.
+     *
+     * @return The square size in pixels
+     */
+    private double fitSquareSize() {
+        ChessBoard board = knightTour.getBoard();
+        double width = Math.max(1, boardLayer.getWidth() - 2 * MARGIN) / board.getWidth();
+        double height = Math.max(1, boardLayer.getHeight() - 2 * MARGIN) / board.getHeight();
+        return Math.min(DEFAULT_SQUARE_SIZE, Math.min(width, height));
+    }
+
+    /**
+     * Gets the smallest zoom, at which the board takes half the window.
+     *
+     * @return The square size in pixels
+     */
+    private double minSquareSize() {
+        return fitSquareSize() / 2;
+    }
+
+    /**
+     * Keeps at least one row and column of the board inside the notation margin.
+     */
+    private void clampOrigin() {
+        ChessBoard board = knightTour.getBoard();
+        originX = Math.max(MARGIN + squareSize - board.getWidth() * squareSize,
+                Math.min(boardLayer.getWidth() - MARGIN - squareSize, originX));
+        originY = Math.max(MARGIN + squareSize - board.getHeight() * squareSize,
+                Math.min(boardLayer.getHeight() - MARGIN - squareSize, originY));
+    }
+
+    /**
+     * Works out which squares are at least partly inside the view.
+     */
+    private void updateVisibleRange() {
+        ChessBoard board = knightTour.getBoard();
+        firstCol = Math.max(0, (int) Math.floor(-originX / squareSize));
+        firstRow = Math.max(0, (int) Math.floor(-originY / squareSize));
+        lastCol = Math.min(board.getWidth() - 1, (int) Math.floor((boardLayer.getWidth() - originX) / squareSize));
+        lastRow = Math.min(board.getHeight() - 1, (int) Math.floor((boardLayer.getHeight() - originY) / squareSize));
+    }
+
+    /**
+     * Checks whether a square is at least partly inside the view.
+     *
+     * @param x The x-coordinate (column) of the square
+     * @param y The y-coordinate (row) of the square
+     * @return true if the square is visible
+     */
+    private boolean isVisible(int x, int y) {
+        return x >= firstCol && x <= lastCol && y >= firstRow && y <= lastRow;
+    }
+
+    /**
+     * Checks whether the segment from one move to the next may cross the view.
+     *
+     * @param moves The move history
+     * @param i     The index of the move the segment starts from
+     * @return true if the bounding box of the segment overlaps the visible squares
+     */
+    private boolean crossesView(MoveSequence moves, int i) {
+        int x1 = moves.getX(i);
+        int y1 = moves.getY(i);
+        int x2 = moves.getX(i + 1);
+        int y2 = moves.getY(i + 1);
+        return Math.min(x1, x2) <= lastCol && Math.max(x1, x2) >= firstCol
+                && Math.min(y1, y2) <= lastRow && Math.max(y1, y2) >= firstRow;
+    }
+
+    /**
+     * Drops the indexed moves, after the tour was reset or restarted.
+     */
+    private void forgetMoves() {
+        segments.clear();
+        heatMap = null;
+        drawnMoves = 0;
+    }
+
+    /**
+     * Adds the moves made since the last call to the segment index and the heat map.
+     */
+    private void indexNewMoves() {
+        MoveSequence moves = knightTour.getMoveHistory();
+        for (int i = Math.max(drawnMoves, 1); i < moves.size(); i++) {
+            segments.add(i - 1, moves.getX(i - 1), moves.getY(i - 1));
+        }
+        if (heatMap != null) {
+            for (int i = drawnMoves; i < moves.size(); i++) {
+                heatMap.getPixelWriter().setArgb(moves.getX(i), moves.getY(i), heatColor(i));
+            }
+        }
+        drawnMoves = moves.size();
+    }
+
+    /**
+     * Repaints the board layer: squares and move numbers, or the heat map, and the notation.
+     */
+    private void drawBoardLayer() {
+        GraphicsContext gc = boardLayer.getGraphicsContext2D();
+
+        // Clearing the full canvas also discards its buffered drawing commands
+        gc.clearRect(0, 0, boardLayer.getWidth(), boardLayer.getHeight());
+
+        // Fill background for the entire canvas (including notation area)
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, boardLayer.getWidth(), boardLayer.getHeight());
+
+        if (firstCol <= lastCol && firstRow <= lastRow) {
+            if (squareSize < PATH_SQUARE_SIZE) {
+                drawHeatMap(gc);
+            } else {
+                drawSquares(gc);
+                if (squareSize >= DETAIL_SQUARE_SIZE) {
+                    drawMoveNumbers(gc);
+                }
+            }
+        }
+        drawNotation(gc);
+    }
+
+    /**
+     * Draws the visible squares; blocked squares keep the background.
+     *
+     * @param gc The graphics context of the board layer
+     */
+    private void drawSquares(GraphicsContext gc) {
+        ChessBoard board = knightTour.getBoard();
+
+        // Light squares as one rectangle, then the dark and blocked squares on top
+        gc.setFill(LIGHT_SQUARE);
+        gc.fillRect(screenX(firstCol), screenY(firstRow),
+                (lastCol - firstCol + 1) * squareSize, (lastRow - firstRow + 1) * squareSize);
+        gc.setFill(DARK_SQUARE);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol + ((firstCol + row) % 2 == 0 ? 1 : 0); col <= lastCol; col += 2) {
+                gc.fillRect(screenX(col), screenY(row), squareSize, squareSize);
+            }
+        }
+        if (board.hasBlockedSquares()) {
+            gc.setFill(BACKGROUND);
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int col = firstCol; col <= lastCol; col++) {
+                    if (board.isBlocked(col, row)) {
+                        gc.fillRect(screenX(col), screenY(row), squareSize, squareSize);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the move numbers on the visible visited squares.
+     *
+     * @param gc The graphics context of the board layer
+     */
+    private void drawMoveNumbers(GraphicsContext gc) {
+        ChessBoard board = knightTour.getBoard();
+        setNumberStyle(gc);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int squareValue = board.getSquareValue(row, col);
+                if (squareValue > 0) {
+                    drawMoveNumber(gc, col, row, squareValue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the fill, font and alignment of move numbers for the current zoom.
+     *
+     * @param gc The graphics context of the board layer
+     */
+    private void setNumberStyle(GraphicsContext gc) {
+        gc.setFill(Color.BLACK);
+        gc.setFont(new Font("Arial", squareSize / 4));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+    }
+
+    /**
+     * Draws the move number on a visited square. The style must already be set.
+     *
+     * @param gc     The graphics context of the board layer
+     * @param x      The x-coordinate (column) of the square
+     * @param y      The y-coordinate (row) of the square
+     * @param number The move number
+     */
+    private void drawMoveNumber(GraphicsContext gc, int x, int y, int number) {
+        gc.fillText(String.valueOf(number), centreX(x), centreY(y), squareSize - 4);
+    }
+
+    /**
+     * Draws the visible part of the heat map, one image pixel per square.
+     *
+     * @param gc The graphics context of the board layer
+     */
+    private void drawHeatMap(GraphicsContext gc) {
+        if (heatMap == null) {
+            heatMap = createHeatMap();
+        }
+        int columns = lastCol - firstCol + 1;
+        int rows = lastRow - firstRow + 1;
+        gc.setImageSmoothing(false);
+        gc.drawImage(heatMap, firstCol, firstRow, columns, rows,
+                screenX(firstCol), screenY(firstRow), columns * squareSize, rows * squareSize);
+    }
+
+    /**
+     * Creates the heat map of the moves made so far.
+     *
+     * @return An image with one pixel per square
+     */
+    private WritableImage createHeatMap() {
+        ChessBoard board = knightTour.getBoard();
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int[] pixels = new int[width * height];
+        int unvisited = argb(DARK_SQUARE);
+        int blocked = argb(BACKGROUND);
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                pixels[row * width + col] = board.isBlocked(col, row) ? blocked : unvisited;
+            }
+        }
+        MoveSequence moves = knightTour.getMoveHistory();
+        for (int i = 0; i < drawnMoves; i++) {
+            pixels[moves.getY(i) * width + moves.getX(i)] = heatColor(i);
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Gets the heat map colour of a move.
+     *
+     * @param move The index of the move in the history
+     * @return The colour as ARGB
+     */
+    private int heatColor(int move) {
+        ChessBoard board = knightTour.getBoard();
+        long last = Math.max(1, (long) board.getWidth() * board.getHeight() - 1);
+        return HEAT_COLORS[(int) (Math.min(move, last) * (HEAT_LEVELS - 1) / last)];
+    }
+
+    /**
+     * Draws the row numbers and column letters in the margins of the view. On a small
+     * scale only every few rows and columns are labelled.
+     *
+     * @param gc The graphics context of the board layer
+     */
+    private void drawNotation(GraphicsContext gc) {
+        double width = boardLayer.getWidth();
+        double height = boardLayer.getHeight();
+        int rows = knightTour.getBoard().getHeight();
+
+        // Squares panned under the margins are covered
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, MARGIN, height);
+        gc.fillRect(0, height - MARGIN, width, MARGIN);
+
+        gc.setFill(NOTATION_COLOR);
+        gc.setFont(NOTATION_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        int step = Math.max(1, (int) Math.ceil(LABEL_SPACING / squareSize));
+
+        // Draw column letters below the board
+        for (int col = firstCol; col <= lastCol; col++) {
+            if (col % step == 0 && centreX(col) > MARGIN) {
+                gc.fillText(KnightTour.fileName(col), centreX(col), height - MARGIN / 2.0);
+            }
+        }
+
+        // Draw row numbers to the left of the board
+        for (int row = firstRow; row <= lastRow; row++) {
+            // Chess notation has row 1 at the bottom, so we invert the order
+            int rowNumber = rows - row;
+            if ((rowNumber - 1) % step == 0 && centreY(row) < height - MARGIN) {
+                gc.fillText(String.valueOf(rowNumber), MARGIN / 2.0, centreY(row), MARGIN - 2);
+            }
+        }
+    }
+
+    /**
+     * Redraws the visible arrows of the knight's movement path.
+     */
+    private void drawMoveArrows() {
+        GraphicsContext gc = arrowLayer.getGraphicsContext2D();
+        gc.clearRect(0, 0, arrowLayer.getWidth(), arrowLayer.getHeight());
+        if (squareSize < PATH_SQUARE_SIZE || firstCol > lastCol || firstRow > lastRow) {
+            return;
+        }
+
+        MoveSequence moves = knightTour.getMoveHistory();
+        boolean detail = squareSize >= DETAIL_SQUARE_SIZE;
+        setPathStyle(gc);
+        gc.beginPath();
+        segments.forEach(firstCol, firstRow, lastCol, lastRow, i -> addSegment(gc, moves, i, detail));
+        gc.stroke();
+    }
+
+    /**
+     * Sets the stroke of the path for the current zoom.
+     *
+     * @param gc The graphics context of the arrow layer
+     */
+    private void setPathStyle(GraphicsContext gc) {
+        gc.setStroke(ARROW_COLOR);
+        gc.setLineWidth(Math.max(1, 3 * squareSize / DEFAULT_SQUARE_SIZE));
+    }
+
+    /**
+     * Adds the segment from one move to the next to the current path, with an arrowhead
+     * if the squares are large enough. The path is stroked by the caller.
+     *
+     * @param gc     The graphics context of the arrow layer
+     * @param moves  The move history
+     * @param i      The index of the move the segment starts from
+     * @param detail Whether to add an arrowhead
+     */
+    private void addSegment(GraphicsContext gc, MoveSequence moves, int i, boolean detail) {
+        double startX = centreX(moves.getX(i));
+        double startY = centreY(moves.getY(i));
+        double endX = centreX(moves.getX(i + 1));
+        double endY = centreY(moves.getY(i + 1));
+
+        gc.moveTo(startX, startY);
+        gc.lineTo(endX, endY);
+        if (!detail) {
+            return;
+        }
+
+        // Arrowhead properties
+        double angle = Math.atan2(endY - startY, endX - startX);
+        double arrowSize = 10 * squareSize / DEFAULT_SQUARE_SIZE;
+        double sharpness = Math.PI / 10; // narrower angle for sharper look
+
+        gc.moveTo(endX - arrowSize * Math.cos(angle - sharpness), endY - arrowSize * Math.sin(angle - sharpness));
+        gc.lineTo(endX, endY);
+        gc.lineTo(endX - arrowSize * Math.cos(angle + sharpness), endY - arrowSize * Math.sin(angle + sharpness));
+    }
+
+    /**
+     * Draws the knight at its current position if it is in view. When the squares are
+     * too small for the image, a marker is drawn instead.
+     */
+    private void drawKnight() {
+        GraphicsContext gc = knightLayer.getGraphicsContext2D();
+        gc.clearRect(0, 0, knightLayer.getWidth(), knightLayer.getHeight());
+
+        int knightX = knightTour.getCurrentX();
+        int knightY = knightTour.getCurrentY();
+        if (!isVisible(knightX, knightY)) {
+            return;
+        }
+
+        if (knightImage != null && squareSize >= DETAIL_SQUARE_SIZE) {
+            double scale = squareSize / MAX_SQUARE_SIZE;
+            double imageWidth = knightImage.getWidth() * scale;
+            double imageHeight = knightImage.getHeight() * scale;
+            gc.drawImage(knightImage,
+                    screenX(knightX) + (squareSize - imageWidth) / 2,
+                    screenY(knightY) + (squareSize - imageHeight) / 2,
+                    imageWidth, imageHeight);
+        } else {
+            // Draw a placeholder if the image is not available or too small to see
+            double radius = Math.max(4, squareSize * 0.25);
+            gc.setFill(Color.BLACK);
+            gc.setStroke(Color.WHITE);
+            gc.setLineWidth(1.5);
+            gc.fillOval(centreX(knightX) - radius, centreY(knightY) - radius, 2 * radius, 2 * radius);
+            gc.strokeOval(centreX(knightX) - radius, centreY(knightY) - radius, 2 * radius, 2 * radius);
+        }
+    }
+
+    // Coordinates
+
+    private double screenX(int col) {
+        return originX + col * squareSize;
+    }
+
+    private double screenY(int row) {
+        return originY + row * squareSize;
+    }
+
+    private double centreX(int col) {
+        return originX + (col + 0.5) * squareSize;
+    }
+
+    private double centreY(int row) {
+        return originY + (row + 0.5) * squareSize;
+    }
+
+    /**
+     * Gets the longest distance a move of the piece covers along either axis.
+     *
+     * @param moveSet The moves of the piece
+     * @return The longest move length in squares
+     */
+    private static int maxMoveLength(MoveSet moveSet) {
+        int length = 0;
+        for (int i = 0; i < moveSet.size(); i++) {
+            length = Math.max(length, Math.max(Math.abs(moveSet.getDx(i)), Math.abs(moveSet.getDy(i))));
+        }
+        return length;
+    }
+
+    /**
+     * Converts a colour to an ARGB pixel.
+     *
+     * @param color The colour
+     * @return The colour as ARGB
+     */
+    private static int argb(Color color) {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.knighttour.view;
 
 import com.example.knighttour.controller.KnightTourController;
+import com.example.knighttour.util.SoundPlayer;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -16,6 +19,10 @@ import java.util.Optional;
  * This class manages the layout and UI components.
  */
 public class KnightTourUI {
+    // Auto-play speeds offered in the speed box, in moves per second
+    private static final int[] SPEEDS = {1, 5, 20, 100, KnightTourController.MAX_SPEED};
+    private static final String[] SPEED_LABELS = {"1 move/s", "5 moves/s", "20 moves/s", "100 moves/s", "Max"};
+
     private BorderPane root;
     private KnightTourController controller;
     private BoardView boardView;
@@ -47,15 +54,15 @@ public class KnightTourUI {
         Label statusLabel = new Label();
         statusLabel.setFont(new Font("Arial", 14));
 
-        TextArea moveHistoryArea = new TextArea();
-        moveHistoryArea.setPrefHeight(100);
-        moveHistoryArea.setEditable(false);
+        ListView<String> moveHistoryView = new ListView<>();
+        moveHistoryView.setPrefHeight(100);
+        moveHistoryView.setFixedCellSize(24);
 
         // Create the controller (which also initializes the model)
         controller = new KnightTourController(
                 boardSize,
                 statusLabel,
-                moveHistoryArea,
+                moveHistoryView,
                 this::updateBoardView  // Pass reference to method that updates the board view
         );
 
@@ -65,16 +72,20 @@ public class KnightTourUI {
         // Create control buttons
         Button nextMoveButton = createNextMoveButton();
         Button resetButton = createResetButton();
+        ToggleButton autoPlayButton = createAutoPlayButton();
+        ComboBox<String> speedBox = createSpeedBox();
+        ToggleButton soundButton = createSoundButton();
 
         // Create layout
-        HBox buttonControls = new HBox(10, statusLabel, nextMoveButton, resetButton);
+        HBox buttonControls = new HBox(10, statusLabel, nextMoveButton, autoPlayButton, speedBox, soundButton,
+                resetButton);
         buttonControls.setPadding(new Insets(10));
 
-        VBox controls = new VBox(10, moveHistoryArea, buttonControls);
+        VBox controls = new VBox(10, moveHistoryView, buttonControls);
         controls.setPadding(new Insets(10));
 
         // Assemble the UI
-        root.setCenter(boardView.getCanvas());
+        root.setCenter(boardView.getNode());
         root.setBottom(controls);
     }
 
@@ -89,6 +100,52 @@ public class KnightTourUI {
         return button;
     }
 
+    /**
+     * Creates the "Auto Play" toggle button, which plays the tour until it is pressed again.
+     *
+     * @return The configured button
+     */
+    private ToggleButton createAutoPlayButton() {
+        ToggleButton button = new ToggleButton("Auto Play");
+        button.setOnAction(e -> {
+            if (button.isSelected()) {
+                controller.startAutoPlay();
+            } else {
+                controller.stopAutoPlay();
+            }
+        });
+        controller.setAutoPlayStoppedCallback(() -> button.setSelected(false));
+        return button;
+    }
+
+    /**
+     * Creates the box that selects the auto-play speed.
+     *
+     * @return The configured combo box
+     */
+    private ComboBox<String> createSpeedBox() {
+        ComboBox<String> box = new ComboBox<>();
+        box.getItems().addAll(SPEED_LABELS);
+        box.getSelectionModel().selectLast();
+        controller.setAutoPlaySpeed(SPEEDS[SPEEDS.length - 1]);
+        box.setOnAction(e -> controller.setAutoPlaySpeed(SPEEDS[box.getSelectionModel().getSelectedIndex()]));
+        return box;
+    }
+
+    /**
+     * Creates the "Sound" toggle button, which mutes the move sound while it is not selected.
+     * It is disabled when sound was turned off at startup.
+     *
+     * @return The configured button
+     */
+    private ToggleButton createSoundButton() {
+        ToggleButton button = new ToggleButton("Sound");
+        button.setSelected(SoundPlayer.isEnabled());
+        button.setDisable(!SoundPlayer.isAvailable());
+        button.setOnAction(e -> SoundPlayer.setEnabled(button.isSelected()));
+        return button;
+    }
+
     /**
      * Creates the "Reset" button with its action handler.
      *
@@ -101,11 +158,11 @@ public class KnightTourUI {
     }
 
     /**
-     * Updates the board view.
+     * Updates the board view with the moves made since the last update.
      * This method is passed to the controller as a callback.
      */
     private void updateBoardView() {
-        boardView.drawBoard();
+        boardView.refresh();
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.example.knighttour.view;
+
+import com.example.knighttour.model.KnightTour;
+import com.example.knighttour.model.MoveSequence;
+import javafx.collections.ObservableListBase;
+
+import java.util.Collections;
+
+/**
+ * Observable list view of the move history of a tour.
+ * The lines are not stored: each one is formatted from the move sequence when a
+ * cell asks for it, so a virtualised control like {@link javafx.scene.control.ListView}
+ * only pays for the rows that are visible. Call {@link #refresh()} after the tour changed.
+ */
+public class MoveHistoryList extends ObservableListBase<String> {
+    private final KnightTour knightTour;
+    private int size;
+
+    /**
+     * Creates a list over the move history of a tour.
+     *
+     * @param knightTour The Knight's Tour model
+     */
+    public MoveHistoryList(KnightTour knightTour) {
+        this.knightTour = knightTour;
+        this.size = knightTour.getMoveHistory().size();
+    }
+
+    /**
+     * Notifies listeners of the moves made since the last call.
+     * A shorter history is reported as the removal of every line followed by the new lines.
+     */
+    public void refresh() {
+        int newSize = knightTour.getMoveHistory().size();
+        if (newSize == size) {
+            return;
+        }
+
+        beginChange();
+        if (newSize > size) {
+            nextAdd(size, newSize);
+        } else {
+            // The old lines can no longer be formatted; listeners only get placeholders
+            nextRemove(0, Collections.nCopies(size, ""));
+            nextAdd(0, newSize);
+        }
+        size = newSize;
+        endChange();
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        MoveSequence moves = knightTour.getMoveHistory();
+        String position = knightTour.getChessNotation(moves.getX(index), moves.getY(index));
+        if (index == 0) {
+            return "Move 1: Knight at " + position;
+        }
+        return "Move " + (index + 1) + ": Knight moved to " + position;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.knighttour.view;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Spatial index of the segments of a tour, so that only the visible ones are drawn.
+ * <p>
+ * The board is divided into square tiles and every segment is filed under the tile of
+ * the square it starts from. A segment is never longer than the longest move of the
+ * piece, so all segments that cross a rectangle of squares are filed under the tiles of
+ * that rectangle grown by the length of a move. Looking up the visible segments therefore
+ * costs time in proportion to the visible area, not to the length of the tour.
+ */
+final class SegmentIndex {
+    private static final int TILE_SIZE = 16;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int tileColumns;
+    private final int tileRows;
+    // Number of tiles a move can reach beyond the tile it starts from
+    private final int reach;
+    private final int[][] segments;
+    private final int[] counts;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param width         The number of columns of the board
+     * @param height        The number of rows of the board
+     * @param maxMoveLength The longest distance a move covers along either axis
+     */
+    SegmentIndex(int width, int height, int maxMoveLength) {
+        this.tileColumns = (width + TILE_SIZE - 1) / TILE_SIZE;
+        this.tileRows = (height + TILE_SIZE - 1) / TILE_SIZE;
+        this.reach = (maxMoveLength + TILE_SIZE - 1) / TILE_SIZE;
+        this.segments = new int[tileColumns * tileRows][];
+        this.counts = new int[tileColumns * tileRows];
+    }
+
+    /**
+     * Removes every segment, keeping the allocated lists for reuse.
+     */
+    void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Adds a segment.
+     *
+     * @param segment The index of the move the segment starts from
+     * @param x       The column of the square the segment starts from
+     * @param y       The row of the square the segment starts from
+     */
+    void add(int segment, int x, int y) {
+        int tile = (y / TILE_SIZE) * tileColumns + x / TILE_SIZE;
+        int[] list = segments[tile];
+        if (list == null) {
+            list = new int[INITIAL_CAPACITY];
+            segments[tile] = list;
+        } else if (counts[tile] == list.length) {
+            list = Arrays.copyOf(list, list.length * 2);
+            segments[tile] = list;
+        }
+        list[counts[tile]++] = segment;
+    }
+
+    /**
+     * Calls an action for every segment that may cross a rectangle of squares.
+     * Segments near the rectangle may be included as well; each segment is passed once.
+     *
+     * @param firstCol The leftmost column of the rectangle
+     * @param firstRow The top row of the rectangle
+     * @param lastCol  The rightmost column of the rectangle
+     * @param lastRow  The bottom row of the rectangle
+     * @param action   Receives the index of the move each segment starts from
+     */
+    void forEach(int firstCol, int firstRow, int lastCol, int lastRow, IntConsumer action) {
+        int fromX = Math.max(0, firstCol / TILE_SIZE - reach);
+        int fromY = Math.max(0, firstRow / TILE_SIZE - reach);
+        int toX = Math.min(tileColumns - 1, lastCol / TILE_SIZE + reach);
+        int toY = Math.min(tileRows - 1, lastRow / TILE_SIZE + reach);
+        for (int tileY = fromY; tileY <= toY; tileY++) {
+            for (int tileX = fromX; tileX <= toX; tileX++) {
+                int tile = tileY * tileColumns + tileX;
+                int[] list = segments[tile];
+                for (int i = 0; i < counts[tile]; i++) {
+                    action.accept(list[i]);
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,9 @@
 module com.example.knighttour {
+    requires com.example.knighttour.core;
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
 
     opens com.example.knighttour to javafx.fxml;
     exports com.example.knighttour;
-}
\ No newline at end of file
+}